@@ -0,0 +1,78 @@
+package com.redpay.config;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool de arreglos de bytes de tamaño fijo.
+ * <p>
+ * Permite leer cuerpos HTTP sin reservar un arreglo nuevo por solicitud. El
+ * pool no depende del hilo que lo usa, por lo que funciona igual con hilos de
+ * plataforma o virtuales, y conserva como máximo {@code maxPooled} arreglos
+ * libres: los arreglos devueltos por encima de ese límite se descartan.
+ * </p>
+ */
+public final class ByteArrayPool {
+
+    private final int bufferSize;
+
+    private final int maxPooled;
+
+    private final Queue<byte[]> idle = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger idleCount = new AtomicInteger();
+
+    /**
+     * Crea el pool.
+     *
+     * @param bufferSize Tamaño de cada arreglo, en bytes.
+     * @param maxPooled Número máximo de arreglos libres conservados.
+     */
+    public ByteArrayPool(int bufferSize, int maxPooled) {
+        this.bufferSize = Math.max(1, bufferSize);
+        this.maxPooled = Math.max(0, maxPooled);
+    }
+
+    /**
+     * Obtiene un arreglo del pool, o uno nuevo si no hay arreglos libres. Debe
+     * devolverse con {@link #release(byte[])} al terminar de usarlo.
+     *
+     * @return Un arreglo de {@link #getBufferSize()} bytes. Su contenido no se
+     * limpia.
+     */
+    public byte[] acquire() {
+        byte[] buffer = idle.poll();
+        if (buffer != null) {
+            idleCount.decrementAndGet();
+            return buffer;
+        }
+        return new byte[bufferSize];
+    }
+
+    /**
+     * Devuelve un arreglo al pool.
+     *
+     * @param buffer Arreglo obtenido con {@link #acquire()}. Los arreglos de
+     * otro tamaño se descartan.
+     */
+    public void release(byte[] buffer) {
+        if (buffer == null || buffer.length != bufferSize) {
+            return;
+        }
+        if (idleCount.incrementAndGet() <= maxPooled) {
+            idle.offer(buffer);
+        } else {
+            idleCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * Obtiene el tamaño de los arreglos del pool.
+     *
+     * @return El tamaño, en bytes.
+     */
+    public int getBufferSize() {
+        return bufferSize;
+    }
+}
@@ -1,10 +1,14 @@
 package com.redpay.config;
 
+import java.lang.reflect.Method;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.redpay.enums.ExecutionMode;
+
 /**
  * CustomThreadFactory es una implementación personalizada de la interfaz {@link ThreadFactory}
  * que crea hilos con nombres prefijados y asigna un {@code UncaughtExceptionHandler} para capturar
@@ -14,6 +18,11 @@ import org.slf4j.LoggerFactory;
  * Cada hilo creado se nombra utilizando el prefijo especificado seguido de un contador único.
  * El UncaughtExceptionHandler registra cualquier error que ocurra en el hilo.
  * </p>
+ * <p>
+ * En modo {@link ExecutionMode#VIRTUAL} los hilos se crean como hilos virtuales
+ * cuando la JVM lo permite (JDK 21 o superior); en caso contrario se crean
+ * hilos de plataforma.
+ * </p>
  *
  */
 public class CustomThreadFactory implements ThreadFactory {
@@ -23,7 +32,10 @@ public class CustomThreadFactory implements ThreadFactory {
     private final String threadPrefix;
     
     /** Contador interno para garantizar nombres únicos en los hilos. */
-    private int counter = 1;
+    private final AtomicInteger counter = new AtomicInteger(1);
+
+    /** Fábrica de hilos virtuales de la JVM, o null si se usan hilos de plataforma. */
+    private final ThreadFactory virtualFactory;
 
     /**
      * Crea una nueva instancia de CustomThreadFactory con el prefijo especificado.
@@ -31,7 +43,28 @@ public class CustomThreadFactory implements ThreadFactory {
      * @param threadPrefix El prefijo que se usará para nombrar los hilos.
      */
     public CustomThreadFactory(String threadPrefix) {
+        this(threadPrefix, ExecutionMode.PLATFORM);
+    }
+
+    /**
+     * Crea una nueva instancia de CustomThreadFactory con el prefijo y el tipo
+     * de hilos especificados.
+     *
+     * @param threadPrefix El prefijo que se usará para nombrar los hilos.
+     * @param mode El tipo de hilos a crear.
+     */
+    public CustomThreadFactory(String threadPrefix, ExecutionMode mode) {
         this.threadPrefix = threadPrefix;
+        this.virtualFactory = mode == ExecutionMode.VIRTUAL ? createVirtualFactory() : null;
+    }
+
+    /**
+     * Indica si los hilos creados son virtuales.
+     *
+     * @return true si la fábrica crea hilos virtuales.
+     */
+    public boolean isVirtual() {
+        return virtualFactory != null;
     }
 
     /**
@@ -46,10 +79,37 @@ public class CustomThreadFactory implements ThreadFactory {
      */
     @Override
     public Thread newThread(Runnable r) {
-        Thread thread = new Thread(r, threadPrefix + "-" + counter++);
+        String name = threadPrefix + "-" + counter.getAndIncrement();
+        Thread thread;
+        if (virtualFactory != null) {
+            thread = virtualFactory.newThread(r);
+            thread.setName(name);
+        } else {
+            thread = new Thread(r, name);
+        }
         thread.setUncaughtExceptionHandler((t, e) -> {
             logger.error("Excepción no capturada en el hilo {}: {}", t.getName(), e.getMessage(), e);
         });
         return thread;
     }
+
+    /**
+     * Obtiene la fábrica de hilos virtuales de la JVM ({@code Thread.ofVirtual().factory()}).
+     * <p>
+     * Se resuelve por reflexión para que el SDK siga compilando y ejecutándose
+     * en JDK 17.
+     * </p>
+     *
+     * @return La fábrica de hilos virtuales, o null si la JVM no los soporta.
+     */
+    private static ThreadFactory createVirtualFactory() {
+        try {
+            Method ofVirtual = Thread.class.getMethod("ofVirtual");
+            Method factory = Class.forName("java.lang.Thread$Builder").getMethod("factory");
+            return (ThreadFactory) factory.invoke(ofVirtual.invoke(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            logger.warn("Los hilos virtuales no están disponibles en esta JVM, se utilizarán hilos de plataforma.");
+            return null;
+        }
+    }
 }
@@ -0,0 +1,277 @@
+package com.redpay.config;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caché concurrente acotada cuyas entradas expiran un tiempo fijo después de
+ * ser agregadas.
+ * <p>
+ * Las entradas se registran en una cola FIFO y, en cada inserción, se eliminan
+ * desde su cabeza las entradas expiradas y, si se supera la capacidad, las más
+ * antiguas. Como las entradas comparten el mismo tiempo de vida (salvo las
+ * agregadas con {@link #put(Object, Object, long)}, que pueden expirar antes),
+ * el orden de inserción coincide con el orden de expiración y todas las
+ * operaciones son O(1) amortizado. Las entradas expiradas que no están en la
+ * cabeza de la cola se ignoran en las búsquedas hasta ser eliminadas.
+ * </p>
+ * <p>
+ * Las entradas eliminadas con {@link #remove(Object)} o reemplazadas con
+ * {@link #put(Object, Object)} quedan obsoletas en la cola: se descartan al
+ * llegar a la cabeza y, si la cola supera el doble de la capacidad, se
+ * compacta, de modo que su tamaño queda acotado por la capacidad y no por el
+ * ritmo de inserción. Mantiene contadores de aciertos y fallos de
+ * {@link #get(Object)} y de desalojos.
+ * </p>
+ *
+ * @param <K> Tipo de la clave.
+ * @param <V> Tipo del valor.
+ */
+public final class ExpiringCache<K, V> {
+
+    private final ConcurrentHashMap<K, Entry<K, V>> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Entradas en orden de inserción (y de expiración).
+     */
+    private final Queue<Entry<K, V>> insertionOrder = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Tamaño aproximado de {@link #insertionOrder}, incluidas las entradas
+     * obsoletas.
+     */
+    private final AtomicInteger queued = new AtomicInteger();
+
+    /**
+     * Indica que un hilo está compactando la cola.
+     */
+    private final AtomicBoolean compacting = new AtomicBoolean();
+
+    private final int maxEntries;
+
+    private final long ttlNanos;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Crea la caché.
+     *
+     * @param maxEntries Número máximo de entradas.
+     * @param ttlMillis Tiempo de vida de cada entrada, en milisegundos.
+     */
+    public ExpiringCache(int maxEntries, long ttlMillis) {
+        this.maxEntries = Math.max(1, maxEntries);
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0L, ttlMillis));
+    }
+
+    /**
+     * Obtiene el valor vigente asociado a la clave.
+     *
+     * @param key Clave a buscar.
+     * @return El valor, o null si no existe o expiró.
+     */
+    public V get(K key) {
+        Entry<K, V> entry = entries.get(key);
+        if (entry == null || entry.isExpired(System.nanoTime())) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.value;
+    }
+
+    /**
+     * Agrega la entrada si la clave no tiene un valor vigente.
+     *
+     * @param key Clave de la entrada.
+     * @param value Valor de la entrada.
+     * @return El valor vigente previo (la entrada no se agrega), o null si la
+     * entrada se agregó.
+     */
+    public V putIfAbsent(K key, V value) {
+        long now = System.nanoTime();
+        Entry<K, V> created = new Entry<>(key, value, now + ttlNanos);
+        Entry<K, V> current = entries.compute(key,
+                (k, existing) -> existing != null && !existing.isExpired(now) ? existing : created);
+        if (current != created) {
+            return current.value;
+        }
+        enqueue(created);
+        evict(now);
+        return null;
+    }
+
+    /**
+     * Agrega o reemplaza la entrada de la clave, con el tiempo de vida de la
+     * caché.
+     *
+     * @param key Clave de la entrada.
+     * @param value Valor de la entrada.
+     */
+    public void put(K key, V value) {
+        put(key, value, Long.MAX_VALUE);
+    }
+
+    /**
+     * Agrega o reemplaza la entrada de la clave, con un tiempo de vida propio
+     * que no puede superar el de la caché.
+     *
+     * @param key Clave de la entrada.
+     * @param value Valor de la entrada.
+     * @param ttlMillis Tiempo de vida de la entrada, en milisegundos.
+     */
+    public void put(K key, V value, long ttlMillis) {
+        long now = System.nanoTime();
+        long entryTtlNanos = Math.min(ttlNanos, TimeUnit.MILLISECONDS.toNanos(Math.max(0L, ttlMillis)));
+        Entry<K, V> created = new Entry<>(key, value, now + entryTtlNanos);
+        entries.put(key, created);
+        enqueue(created);
+        evict(now);
+    }
+
+    /**
+     * Elimina la entrada asociada a la clave.
+     *
+     * @param key Clave a eliminar.
+     */
+    public void remove(K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * Obtiene el número de entradas almacenadas, incluidas las expiradas que
+     * aún no se eliminan.
+     *
+     * @return El número de entradas.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Obtiene el número de llamadas a {@link #get(Object)} que encontraron un
+     * valor vigente.
+     *
+     * @return El número de aciertos.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Obtiene el número de llamadas a {@link #get(Object)} que no encontraron
+     * un valor vigente.
+     *
+     * @return El número de fallos.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Obtiene la proporción de llamadas a {@link #get(Object)} que encontraron
+     * un valor vigente.
+     *
+     * @return La tasa de aciertos, entre 0 y 1.
+     */
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    /**
+     * Obtiene el número de entradas eliminadas por expiración o por exceder la
+     * capacidad.
+     *
+     * @return El número de desalojos.
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Registra una entrada nueva al final de la cola de inserción.
+     *
+     * @param entry Entrada agregada.
+     */
+    private void enqueue(Entry<K, V> entry) {
+        insertionOrder.offer(entry);
+        queued.incrementAndGet();
+    }
+
+    /**
+     * Elimina las entradas expiradas y, si se supera la capacidad, las más
+     * antiguas. Descarta además las entradas obsoletas de la cabeza de la cola
+     * y compacta la cola si acumula demasiadas.
+     *
+     * @param now Instante actual (System.nanoTime).
+     */
+    private void evict(long now) {
+        Entry<K, V> head;
+        while ((head = insertionOrder.peek()) != null) {
+            boolean live = entries.get(head.key) == head;
+            if (live && !head.isExpired(now) && entries.size() <= maxEntries) {
+                break;
+            }
+            if (insertionOrder.remove(head)) {
+                queued.decrementAndGet();
+                if (live && entries.remove(head.key, head)) {
+                    evictions.increment();
+                }
+            }
+        }
+
+        if (queued.get() > 2 * maxEntries) {
+            compact();
+        }
+    }
+
+    /**
+     * Elimina de la cola las entradas obsoletas (eliminadas o reemplazadas)
+     * que no están en la cabeza. Su costo, lineal en el tamaño de la cola, se
+     * reparte entre las inserciones que la hicieron crecer.
+     */
+    private void compact() {
+        if (!compacting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            insertionOrder.removeIf(entry -> entries.get(entry.key) != entry);
+            queued.set(insertionOrder.size());
+        } finally {
+            compacting.set(false);
+        }
+    }
+
+    /**
+     * Entrada de la caché.
+     */
+    private static final class Entry<K, V> {
+
+        final K key;
+
+        final V value;
+
+        final long expiresAt;
+
+        Entry(K key, V value, long expiresAt) {
+            this.key = key;
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.redpay.config;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Ejecutor que procesa las tareas de una misma clave en orden de llegada y las
+ * de claves distintas en paralelo.
+ * <p>
+ * Cada clave con tareas pendientes tiene su propia cola sin bloqueos
+ * ({@link ConcurrentLinkedQueue}), que se drena en el ejecutor delegado por un
+ * único hilo a la vez. Para que una clave con muchas tareas no acapare un hilo,
+ * el drenaje se interrumpe cada {@link #MAX_TASKS_PER_TURN} tareas y se vuelve
+ * a encolar en el ejecutor delegado. Las colas vacías se eliminan, por lo que
+ * la memoria utilizada depende solo de las claves con tareas pendientes.
+ * </p>
+ *
+ * @param <K> Tipo de la clave.
+ */
+public final class KeyedSerialExecutor<K> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(KeyedSerialExecutor.class);
+
+    /**
+     * Número máximo de tareas de una misma clave ejecutadas en un turno.
+     */
+    private static final int MAX_TASKS_PER_TURN = 64;
+
+    private final Executor delegate;
+
+    /**
+     * Colas de las claves con tareas pendientes.
+     */
+    private final ConcurrentHashMap<K, SerialQueue> queues = new ConcurrentHashMap<>();
+
+    /**
+     * Número total de tareas encoladas o en ejecución.
+     */
+    private final AtomicInteger pendingTasks = new AtomicInteger();
+
+    /**
+     * Crea el ejecutor.
+     *
+     * @param delegate Ejecutor en el que se drenan las colas. Su número de
+     * hilos determina el paralelismo entre claves.
+     */
+    public KeyedSerialExecutor(Executor delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Encola una tarea para la clave indicada. La tarea se ejecuta después de
+     * todas las tareas encoladas previamente para la misma clave. Los errores
+     * de la tarea se registran y no afectan a las tareas siguientes.
+     *
+     * @param key Clave de la tarea.
+     * @param task Tarea a ejecutar.
+     */
+    public void execute(K key, Runnable task) {
+        boolean[] schedule = new boolean[1];
+        pendingTasks.incrementAndGet();
+        SerialQueue serialQueue = queues.compute(key, (k, queue) -> {
+            if (queue == null) {
+                queue = new SerialQueue(k);
+            }
+            queue.tasks.offer(task);
+            queue.depth.incrementAndGet();
+            if (!queue.scheduled) {
+                queue.scheduled = true;
+                schedule[0] = true;
+            }
+            return queue;
+        });
+        if (schedule[0]) {
+            delegate.execute(serialQueue);
+        }
+    }
+
+    /**
+     * Obtiene el número de tareas encoladas o en ejecución para una clave.
+     *
+     * @param key Clave a consultar.
+     * @return El número de tareas pendientes de la clave.
+     */
+    public int getQueueDepth(K key) {
+        SerialQueue queue = queues.get(key);
+        return queue != null ? queue.depth.get() : 0;
+    }
+
+    /**
+     * Obtiene una instantánea del número de tareas pendientes por clave.
+     *
+     * @return Un mapa de las claves con tareas pendientes y su cantidad.
+     */
+    public Map<K, Integer> getQueueDepths() {
+        Map<K, Integer> depths = new HashMap<>();
+        queues.forEach((key, queue) -> depths.put(key, queue.depth.get()));
+        return depths;
+    }
+
+    /**
+     * Obtiene el número de claves con tareas pendientes.
+     *
+     * @return El número de claves activas.
+     */
+    public int getActiveKeys() {
+        return queues.size();
+    }
+
+    /**
+     * Obtiene el número total de tareas encoladas o en ejecución.
+     *
+     * @return El número de tareas pendientes.
+     */
+    public int getPendingTasks() {
+        return pendingTasks.get();
+    }
+
+    /**
+     * Cola de tareas de una clave.
+     */
+    private final class SerialQueue implements Runnable {
+
+        private final K key;
+
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+        private final AtomicInteger depth = new AtomicInteger();
+
+        /**
+         * Indica que la cola está encolada o drenándose en el ejecutor
+         * delegado. Solo se modifica dentro de {@code queues.compute}.
+         */
+        private boolean scheduled;
+
+        SerialQueue(K key) {
+            this.key = key;
+        }
+
+        @Override
+        public void run() {
+            for (int i = 0; i < MAX_TASKS_PER_TURN; i++) {
+                Runnable task = tasks.poll();
+                if (task == null) {
+                    break;
+                }
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    LOGGER.error("Error al ejecutar una tarea de la clave {}", key, e);
+                } finally {
+                    depth.decrementAndGet();
+                    pendingTasks.decrementAndGet();
+                }
+            }
+
+            // La cola se libera solo si no llegaron tareas nuevas; en caso contrario se reprograma
+            boolean[] reschedule = new boolean[1];
+            queues.compute(key, (k, queue) -> {
+                if (queue != this) {
+                    return queue;
+                }
+                if (tasks.isEmpty()) {
+                    scheduled = false;
+                    return null;
+                }
+                reschedule[0] = true;
+                return this;
+            });
+            if (reschedule[0]) {
+                delegate.execute(this);
+            }
+        }
+    }
+}
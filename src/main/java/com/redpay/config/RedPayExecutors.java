@@ -0,0 +1,105 @@
+package com.redpay.config;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+import com.redpay.enums.ExecutionMode;
+
+/**
+ * Fábrica de los ejecutores utilizados por los procesos internos del SDK.
+ * <p>
+ * En modo {@link ExecutionMode#PLATFORM} se crean pools de hilos de plataforma.
+ * En modo {@link ExecutionMode#VIRTUAL} cada tarea se ejecuta en su propio hilo
+ * virtual, sin necesidad de dimensionar pools, de modo que miles de llamadas
+ * bloqueantes a RedPay pueden ejecutarse en paralelo.
+ * </p>
+ */
+public final class RedPayExecutors {
+
+    private RedPayExecutors() {
+    }
+
+    /**
+     * Crea un ejecutor de tareas.
+     *
+     * @param threadPrefix Prefijo de los nombres de los hilos.
+     * @param mode Tipo de hilos a utilizar (null equivale a PLATFORM).
+     * @return Un ejecutor de un hilo por tarea en modo virtual, o un pool de
+     * hilos de plataforma reutilizables en caso contrario.
+     */
+    public static ExecutorService newExecutor(String threadPrefix, ExecutionMode mode) {
+        CustomThreadFactory threadFactory = new CustomThreadFactory(threadPrefix, mode);
+        if (threadFactory.isVirtual()) {
+            ExecutorService perTask = newThreadPerTaskExecutor(threadFactory);
+            if (perTask != null) {
+                return perTask;
+            }
+        }
+        return Executors.newCachedThreadPool(threadFactory);
+    }
+
+    /**
+     * Crea un ejecutor con un número fijo de hilos.
+     *
+     * @param threadPrefix Prefijo de los nombres de los hilos.
+     * @param mode Tipo de hilos a utilizar (null equivale a PLATFORM).
+     * @param threads Número de hilos.
+     * @return El ejecutor.
+     */
+    public static ExecutorService newFixedExecutor(String threadPrefix, ExecutionMode mode, int threads) {
+        return Executors.newFixedThreadPool(Math.max(1, threads), new CustomThreadFactory(threadPrefix, mode));
+    }
+
+    /**
+     * Crea un ejecutor para atender solicitudes entrantes, que no crea más
+     * hilos de plataforma que los indicados aunque lleguen ráfagas de
+     * conexiones.
+     *
+     * @param threadPrefix Prefijo de los nombres de los hilos.
+     * @param mode Tipo de hilos a utilizar (null equivale a PLATFORM).
+     * @param platformThreads Número de hilos si no se utilizan hilos virtuales.
+     * @return Un ejecutor de un hilo por tarea en modo virtual, o un pool fijo
+     * de hilos de plataforma en caso contrario.
+     */
+    public static ExecutorService newServerExecutor(String threadPrefix, ExecutionMode mode, int platformThreads) {
+        CustomThreadFactory threadFactory = new CustomThreadFactory(threadPrefix, mode);
+        if (threadFactory.isVirtual()) {
+            ExecutorService perTask = newThreadPerTaskExecutor(threadFactory);
+            if (perTask != null) {
+                return perTask;
+            }
+        }
+        return Executors.newFixedThreadPool(Math.max(1, platformThreads), threadFactory);
+    }
+
+    /**
+     * Crea un planificador de un único hilo para tareas periódicas o
+     * diferidas.
+     *
+     * @param threadPrefix Prefijo del nombre del hilo.
+     * @param mode Tipo de hilo a utilizar (null equivale a PLATFORM).
+     * @return El planificador.
+     */
+    public static ScheduledExecutorService newScheduler(String threadPrefix, ExecutionMode mode) {
+        return Executors.newSingleThreadScheduledExecutor(new CustomThreadFactory(threadPrefix, mode));
+    }
+
+    /**
+     * Crea un ejecutor de un hilo por tarea
+     * ({@code Executors.newThreadPerTaskExecutor}, JDK 21 o superior).
+     *
+     * @param threadFactory Fábrica de hilos virtuales.
+     * @return El ejecutor, o null si la JVM no lo soporta.
+     */
+    private static ExecutorService newThreadPerTaskExecutor(ThreadFactory threadFactory) {
+        try {
+            Method method = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            return (ExecutorService) method.invoke(null, threadFactory);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
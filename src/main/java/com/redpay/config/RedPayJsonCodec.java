@@ -0,0 +1,184 @@
+package com.redpay.config;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.cfg.JsonNodeFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.redpay.responses.AuthorizeResponse;
+import com.redpay.responses.ChargebackResponse;
+import com.redpay.responses.GenerateTokenResponse;
+import com.redpay.responses.GenerateUserResponse;
+import com.redpay.responses.RevokeTokenResponse;
+import com.redpay.responses.ValidateAuthorizationResponse;
+import com.redpay.responses.ValidateTokenResponse;
+
+/**
+ * Codec JSON central del SDK.
+ * <p>
+ * Mantiene instancias únicas, preconfiguradas e inmutables de
+ * {@link ObjectReader} y {@link ObjectWriter} para que ninguna solicitud,
+ * respuesta, firma o error construya su propio {@link ObjectMapper}. Los
+ * lectores de los DTOs de respuesta se crean al cargar la clase, de modo que la
+ * primera solicitud no paga la resolución de deserializadores.
+ * </p>
+ */
+public final class RedPayJsonCodec {
+
+    /**
+     * Tipo genérico de los mapas de parámetros y respuestas.
+     */
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {
+    };
+
+    /**
+     * Mapper base con la configuración por defecto de Jackson. Los árboles
+     * conservan los decimales tal como fueron recibidos, sin eliminar ceros a
+     * la derecha, para que el cuerpo enviado y la firma coincidan con el
+     * valor original.
+     */
+    private static final ObjectMapper MAPPER = JsonMapper.builder()
+            .disable(JsonNodeFeature.STRIP_TRAILING_BIGDECIMAL_ZEROES)
+            .build();
+
+    /**
+     * Mapper utilizado para el cálculo de firmas: ordena las claves de los
+     * mapas, acepta propiedades sin distinguir mayúsculas/minúsculas y
+     * conserva los decimales sin normalizar.
+     */
+    private static final ObjectMapper SIGNATURE_MAPPER = JsonMapper.builder()
+            .enable(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES)
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true)
+            .disable(JsonNodeFeature.STRIP_TRAILING_BIGDECIMAL_ZEROES)
+            .build();
+
+    /**
+     * Escritor del cuerpo de las solicitudes, que omite los valores nulos
+     * tanto de los DTOs como de los árboles JSON.
+     */
+    private static final ObjectWriter PAYLOAD_WRITER = JsonMapper.builder()
+            .serializationInclusion(JsonInclude.Include.NON_NULL)
+            .disable(JsonNodeFeature.WRITE_NULL_PROPERTIES)
+            .build()
+            .writer();
+
+    /**
+     * Lector de objetos JSON como {@code Map<String, Object>}.
+     */
+    private static final ObjectReader MAP_READER = MAPPER.readerFor(MAP_TYPE);
+
+    /**
+     * Lectores cacheados por tipo de DTO.
+     */
+    private static final ConcurrentMap<Class<?>, ObjectReader> READERS = new ConcurrentHashMap<>();
+
+    static {
+        List.of(
+                GenerateUserResponse.class,
+                GenerateTokenResponse.class,
+                RevokeTokenResponse.class,
+                ValidateTokenResponse.class,
+                AuthorizeResponse.class,
+                ValidateAuthorizationResponse.class,
+                ChargebackResponse.class
+        ).forEach(RedPayJsonCodec::reader);
+    }
+
+    private RedPayJsonCodec() {
+    }
+
+    /**
+     * Obtiene el lector cacheado para el tipo indicado.
+     *
+     * @param type Tipo del DTO a deserializar.
+     * @return El {@link ObjectReader} asociado al tipo.
+     */
+    public static ObjectReader reader(Class<?> type) {
+        return READERS.computeIfAbsent(type, MAPPER::readerFor);
+    }
+
+    /**
+     * Obtiene el lector de objetos JSON como {@code Map<String, Object>}.
+     *
+     * @return El {@link ObjectReader} de mapas.
+     */
+    public static ObjectReader mapReader() {
+        return MAP_READER;
+    }
+
+    /**
+     * Obtiene el escritor del cuerpo de las solicitudes (omite valores nulos).
+     *
+     * @return El {@link ObjectWriter} de solicitudes.
+     */
+    public static ObjectWriter payloadWriter() {
+        return PAYLOAD_WRITER;
+    }
+
+    /**
+     * Obtiene el mapper utilizado para el cálculo de firmas.
+     *
+     * @return El {@link ObjectMapper} de firmas.
+     */
+    public static ObjectMapper signatureMapper() {
+        return SIGNATURE_MAPPER;
+    }
+
+    /**
+     * Convierte un objeto en un mapa de propiedades.
+     *
+     * @param value Objeto a convertir.
+     * @return El mapa de propiedades del objeto.
+     */
+    public static Map<String, Object> toMap(Object value) {
+        return MAPPER.convertValue(value, MAP_TYPE);
+    }
+
+    /**
+     * Lee un documento JSON como árbol, conservando los decimales tal como
+     * fueron recibidos.
+     *
+     * @param content Documento JSON en UTF-8.
+     * @return El árbol JSON del documento.
+     * @throws IOException Si el contenido no es un JSON válido.
+     */
+    public static JsonNode readTree(byte[] content) throws IOException {
+        return MAPPER.readTree(content);
+    }
+
+    /**
+     * Lee como árbol un documento JSON contenido en una porción de un arreglo.
+     *
+     * @param content Arreglo que contiene el documento JSON en UTF-8.
+     * @param offset Posición del primer byte del documento.
+     * @param length Longitud del documento, en bytes.
+     * @return El árbol JSON del documento.
+     * @throws IOException Si el contenido no es un JSON válido.
+     */
+    public static JsonNode readTree(byte[] content, int offset, int length) throws IOException {
+        return MAPPER.readTree(content, offset, length);
+    }
+
+    /**
+     * Convierte un objeto en un árbol JSON en una sola pasada, sin
+     * serializarlo a texto.
+     *
+     * @param value Objeto a convertir.
+     * @return El árbol JSON del objeto.
+     */
+    public static ObjectNode toTree(Object value) {
+        return MAPPER.valueToTree(value);
+    }
+}
@@ -0,0 +1,173 @@
+package com.redpay.config;
+
+import java.util.HashSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.crypto.Mac;
+
+import org.apache.commons.codec.binary.StringUtils;
+import org.apache.commons.codec.digest.HmacAlgorithms;
+import org.apache.commons.codec.digest.HmacUtils;
+
+import com.redpay.models.RedPayConfig;
+import com.redpay.models.Secrets;
+import com.redpay.provider.RedPayConfigProvider;
+
+/**
+ * Caché de instancias {@link Mac} HMAC SHA256 por clave secreta.
+ * <p>
+ * Por cada secreto (integridad, autorización, devolución y devolución
+ * automática) se inicializa un único {@link Mac} de referencia, lo que incluye
+ * la búsqueda del proveedor JCA y la preparación de la clave. Las instancias
+ * entregadas se obtienen clonando esa referencia y se devuelven a un pool
+ * propio del secreto tras cada uso, ya reiniciadas. El pool no depende del hilo
+ * que firma, por lo que funciona igual con hilos de plataforma o virtuales.
+ * </p>
+ * <p>
+ * La caché está acotada: cada pool conserva hasta {@value #MAX_IDLE_PER_SECRET}
+ * instancias libres y, si se superan {@value #MAX_SECRETS} secretos (por
+ * ejemplo, tras rotarlos), se descartan los pools de los secretos que ya no
+ * figuran en la configuración global, de modo que los secretos antiguos no
+ * permanecen en memoria.
+ * </p>
+ */
+public final class RedPayMacCache {
+
+    /**
+     * Número de secretos a partir del cual se descartan los pools de los
+     * secretos que no están configurados.
+     */
+    static final int MAX_SECRETS = 16;
+
+    /**
+     * Número máximo de instancias libres conservadas por secreto.
+     */
+    static final int MAX_IDLE_PER_SECRET = 64;
+
+    /**
+     * Pools registrados por secreto.
+     */
+    private static final ConcurrentMap<String, Pool> POOLS = new ConcurrentHashMap<>();
+
+    private RedPayMacCache() {
+    }
+
+    /**
+     * Obtiene un {@link Mac} inicializado con el secreto indicado. Debe
+     * devolverse con {@link #release(String, Mac)} al terminar de usarlo.
+     *
+     * @param secretKey Clave secreta.
+     * @return Un {@link Mac} listo para usarse.
+     * @throws IllegalArgumentException Si la clave es nula o vacía.
+     */
+    public static Mac acquire(String secretKey) {
+        if (secretKey == null) {
+            throw new IllegalArgumentException("Null key");
+        }
+        Pool pool = POOLS.get(secretKey);
+        if (pool == null) {
+            Pool created = new Pool(secretKey);
+            pool = POOLS.putIfAbsent(secretKey, created);
+            if (pool == null) {
+                pool = created;
+                trim(secretKey);
+            }
+        }
+        return pool.acquire();
+    }
+
+    /**
+     * Reinicia el {@link Mac} y lo devuelve al pool de su secreto. Si el pool
+     * fue descartado o está lleno, la instancia se descarta.
+     *
+     * @param secretKey Clave secreta con la que se obtuvo el {@link Mac}.
+     * @param mac Instancia a devolver.
+     */
+    public static void release(String secretKey, Mac mac) {
+        Pool pool = POOLS.get(secretKey);
+        if (pool != null) {
+            mac.reset();
+            pool.release(mac);
+        }
+    }
+
+    /**
+     * Si se superó {@link #MAX_SECRETS}, descarta los pools de los secretos
+     * que no figuran en la configuración global.
+     *
+     * @param retained Secreto recién registrado, que se conserva.
+     */
+    private static void trim(String retained) {
+        if (POOLS.size() <= MAX_SECRETS) {
+            return;
+        }
+        Set<String> configured = configuredSecrets();
+        POOLS.keySet().removeIf(secret -> !secret.equals(retained) && !configured.contains(secret));
+    }
+
+    /**
+     * Obtiene los secretos de la configuración global.
+     *
+     * @return Los secretos configurados, o un conjunto vacío si no hay
+     * configuración.
+     */
+    private static Set<String> configuredSecrets() {
+        RedPayConfig config = RedPayConfigProvider.getInstance().getConfig();
+        Secrets secrets = config != null ? config.getSecrets() : null;
+        if (secrets == null) {
+            return Set.of();
+        }
+        Set<String> configured = new HashSet<>();
+        configured.add(secrets.getIntegrity());
+        configured.add(secrets.getAuthorize());
+        configured.add(secrets.getChargeback());
+        configured.add(secrets.getChargeback_automatic());
+        return configured;
+    }
+
+    /**
+     * Pool de instancias {@link Mac} para un mismo secreto.
+     */
+    private static final class Pool {
+
+        private final byte[] key;
+
+        private final Mac prototype;
+
+        private final Queue<Mac> idle = new ConcurrentLinkedQueue<>();
+
+        private final AtomicInteger idleCount = new AtomicInteger();
+
+        Pool(String secretKey) {
+            this.key = StringUtils.getBytesUtf8(secretKey);
+            this.prototype = HmacUtils.getInitializedMac(HmacAlgorithms.HMAC_SHA_256, key);
+        }
+
+        Mac acquire() {
+            Mac mac = idle.poll();
+            if (mac != null) {
+                idleCount.decrementAndGet();
+                return mac;
+            }
+            try {
+                return (Mac) prototype.clone();
+            } catch (CloneNotSupportedException e) {
+                // El proveedor no permite clonar: se inicializa una nueva instancia
+                return HmacUtils.getInitializedMac(HmacAlgorithms.HMAC_SHA_256, key);
+            }
+        }
+
+        void release(Mac mac) {
+            if (idleCount.incrementAndGet() > MAX_IDLE_PER_SECRET) {
+                idleCount.decrementAndGet();
+                return;
+            }
+            idle.offer(mac);
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.redpay.config;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Índice en memoria de los tokens revocados.
+ * <p>
+ * Combina un filtro de Bloom, que descarta en pocas operaciones y sin
+ * reservar memoria la gran mayoría de los tokens no revocados, con un mapa
+ * exacto que confirma los positivos. Los token_uuid con formato UUID se
+ * guardan como {@link UUID} (128 bits) en lugar de texto.
+ * </p>
+ * <p>
+ * El índice guarda como máximo {@code capacity} revocaciones y descarta las
+ * más antiguas al superarla. Las consultas no usan bloqueos; las inserciones,
+ * poco frecuentes, se serializan.
+ * </p>
+ */
+public final class RevocationIndex {
+
+    /**
+     * Número de funciones de hash del filtro de Bloom.
+     */
+    private static final int HASHES = 7;
+
+    /**
+     * Bits del filtro por revocación, para una tasa de falsos positivos
+     * cercana al 1% con el índice lleno.
+     */
+    private static final int BITS_PER_ENTRY = 10;
+
+    private final int capacity;
+
+    /**
+     * Revocaciones exactas, con su fecha de revocación en milisegundos.
+     */
+    private final Map<Object, Long> revoked = new ConcurrentHashMap<>();
+
+    /**
+     * Revocaciones en orden de inserción, para descartar las más antiguas.
+     */
+    private final Queue<Object> insertionOrder = new ConcurrentLinkedQueue<>();
+
+    private volatile AtomicLongArray bloom;
+
+    private final int bloomMask;
+
+    /**
+     * Revocaciones descartadas desde la última reconstrucción del filtro.
+     */
+    private int evictedSinceRebuild;
+
+    /**
+     * Crea el índice.
+     *
+     * @param capacity Número máximo de revocaciones guardadas.
+     */
+    public RevocationIndex(int capacity) {
+        this.capacity = Math.max(1, capacity);
+        long wanted = Math.min(1L << 30, (long) this.capacity * BITS_PER_ENTRY);
+        int bits = Integer.highestOneBit((int) Math.max(64L, wanted - 1)) << 1;
+        this.bloomMask = bits - 1;
+        this.bloom = new AtomicLongArray(bits / 64);
+    }
+
+    /**
+     * Registra la revocación de un token.
+     *
+     * @param tokenUuid El UUID del token revocado.
+     * @param revokedAt Fecha de revocación, o null si no se conoce.
+     */
+    public synchronized void add(String tokenUuid, Date revokedAt) {
+        Object key = keyOf(tokenUuid);
+        long revokedAtMillis = revokedAt != null ? revokedAt.getTime() : System.currentTimeMillis();
+        if (revoked.put(key, revokedAtMillis) != null) {
+            return;
+        }
+        insertionOrder.offer(key);
+        setBits(bloom, key);
+
+        while (revoked.size() > capacity) {
+            Object oldest = insertionOrder.poll();
+            if (oldest == null) {
+                break;
+            }
+            revoked.remove(oldest);
+            evictedSinceRebuild++;
+        }
+
+        // Los bits de las revocaciones descartadas solo se limpian reconstruyendo el filtro
+        if (evictedSinceRebuild >= capacity) {
+            AtomicLongArray rebuilt = new AtomicLongArray(bloom.length());
+            revoked.keySet().forEach(revokedKey -> setBits(rebuilt, revokedKey));
+            bloom = rebuilt;
+            evictedSinceRebuild = 0;
+        }
+    }
+
+    /**
+     * Indica si el token fue revocado.
+     *
+     * @param tokenUuid El UUID del token.
+     * @return true si el token está en el índice.
+     */
+    public boolean contains(String tokenUuid) {
+        return getRevokedAt(tokenUuid) != null;
+    }
+
+    /**
+     * Obtiene la fecha de revocación de un token.
+     *
+     * @param tokenUuid El UUID del token.
+     * @return La fecha de revocación, o null si el token no está en el índice.
+     */
+    public Date getRevokedAt(String tokenUuid) {
+        if (tokenUuid == null) {
+            return null;
+        }
+        Object key = keyOf(tokenUuid);
+        if (!mightContain(bloom, key)) {
+            return null;
+        }
+        Long revokedAt = revoked.get(key);
+        return revokedAt != null ? new Date(revokedAt) : null;
+    }
+
+    /**
+     * Obtiene el número de revocaciones guardadas.
+     *
+     * @return El número de tokens en el índice.
+     */
+    public int size() {
+        return revoked.size();
+    }
+
+    /**
+     * Convierte el token_uuid en la clave del índice.
+     *
+     * @param tokenUuid El UUID del token.
+     * @return El {@link UUID} del token, o el texto si no tiene formato UUID.
+     */
+    private static Object keyOf(String tokenUuid) {
+        if (tokenUuid.length() == 36) {
+            try {
+                return UUID.fromString(tokenUuid);
+            } catch (IllegalArgumentException e) {
+                // Se utiliza el texto como clave
+            }
+        }
+        return tokenUuid;
+    }
+
+    private void setBits(AtomicLongArray bits, Object key) {
+        long hash = mix(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        for (int i = 0; i < HASHES; i++) {
+            int bit = (h1 + i * h2) & bloomMask;
+            long mask = 1L << bit;
+            bits.accumulateAndGet(bit >>> 6, mask, (current, update) -> current | update);
+        }
+    }
+
+    private boolean mightContain(AtomicLongArray bits, Object key) {
+        long hash = mix(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        for (int i = 0; i < HASHES; i++) {
+            int bit = (h1 + i * h2) & bloomMask;
+            if ((bits.get(bit >>> 6) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Calcula un hash de 64 bits de la clave. Para las claves {@link UUID} se
+     * utilizan sus 128 bits.
+     *
+     * @param key Clave del índice.
+     * @return El hash de la clave.
+     */
+    private static long mix(Object key) {
+        long value = key instanceof UUID uuid
+                ? uuid.getMostSignificantBits() * 0x9E3779B97F4A7C15L ^ uuid.getLeastSignificantBits()
+                : key.hashCode();
+        value ^= value >>> 33;
+        value *= 0xFF51AFD7ED558CCDL;
+        value ^= value >>> 33;
+        value *= 0xC4CEB9FE1A85EC53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
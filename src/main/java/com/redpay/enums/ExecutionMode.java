@@ -0,0 +1,16 @@
+package com.redpay.enums;
+
+/**
+ * Enum que representa el tipo de hilos utilizados por los procesos internos del
+ * SDK (procesamiento de autorizaciones, reintentos, respuestas asíncronas y
+ * webhooks).
+ * <p>
+ * - PLATFORM: Hilos de plataforma tradicionales (valor por defecto). <br>
+ * - VIRTUAL: Hilos virtuales. Requiere JDK 21 o superior; en versiones
+ * anteriores se utilizan hilos de plataforma. <br>
+ * </p>
+ */
+public enum ExecutionMode {
+    PLATFORM,
+    VIRTUAL
+}
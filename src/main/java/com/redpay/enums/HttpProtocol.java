@@ -0,0 +1,17 @@
+package com.redpay.enums;
+
+/**
+ * Enum que representa la versión del protocolo HTTP utilizada hacia RedPay.
+ * <p>
+ * - HTTP_1_1: Pool de conexiones HTTP/1.1, una solicitud en curso por conexión
+ * (valor por defecto). <br>
+ * - HTTP_2: HTTP/2 sobre TLS. Las solicitudes concurrentes se multiplexan
+ * sobre una misma conexión, evitando abrir una conexión y un handshake TLS
+ * nuevos por cada solicitud simultánea. Requiere que el servidor soporte
+ * HTTP/2. <br>
+ * </p>
+ */
+public enum HttpProtocol {
+    HTTP_1_1,
+    HTTP_2
+}
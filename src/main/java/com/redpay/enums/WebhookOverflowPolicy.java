@@ -0,0 +1,21 @@
+package com.redpay.enums;
+
+/**
+ * Enum que representa la política aplicada cuando la cola de webhooks de
+ * pre-autorización está llena.
+ * <p>
+ * - BLOCK: Espera a que se libere espacio en la cola, hasta el plazo
+ * configurado; si se agota, el webhook se rechaza (valor por defecto). <br>
+ * - REJECT: Rechaza el webhook de inmediato con
+ * {@link com.redpay.exceptions.WebhookQueueFullError}, que se recomienda
+ * responder con HTTP 503 para que RedPay lo reintente. <br>
+ * - SPILL: Entrega el webhook a
+ * {@code RedPayAuthorizationManager#onWebhookSpilled} para que se persista y se
+ * procese más tarde. <br>
+ * </p>
+ */
+public enum WebhookOverflowPolicy {
+    BLOCK,
+    REJECT,
+    SPILL
+}
@@ -4,8 +4,7 @@ package com.redpay.exceptions;
 import java.util.Map;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.redpay.config.RedPayJsonCodec;
 
 import lombok.Getter;
 import lombok.ToString;
@@ -46,9 +45,8 @@ public class ApiError extends RuntimeException {
      * @return Una instancia de ApiError con los datos extraídos.
      */
     public static ApiError fromResponse(int httpStatusCode, String responseBody) {
-        ObjectMapper mapper = new ObjectMapper();
         try {
-            Map<String, Object> errorMap = mapper.readValue(responseBody, new TypeReference<Map<String, Object>>() {});
+            Map<String, Object> errorMap = RedPayJsonCodec.mapReader().readValue(responseBody);
             String errorMessage = errorMap.get("message").toString();
             String operationUuid = errorMap.containsKey("operation_uuid") ? errorMap.get("operation_uuid").toString() : null;
             String errorStatusCode = errorMap.containsKey("status_code") ? errorMap.get("status_code").toString() : null;
@@ -0,0 +1,31 @@
+package com.redpay.exceptions;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Excepción personalizada que se lanza cuando llega un reenvío de un webhook
+ * que aún se está procesando. RedPay debe reintentarlo más tarde.
+ */
+@Getter
+@ToString(callSuper = true)
+public class WebhookInProgressError extends RedPayBaseError {
+
+    /**
+     * Constructor que permite asignar valores a operationUuid, statusCode y signature.
+     *
+     * @param operationUuid Identificador único de la operación (opcional).
+     * @param statusCode    Código de estado del error (opcional).
+     * @param signature     Firma del error (opcional).
+     */
+    public WebhookInProgressError(String operationUuid, String statusCode, String signature) {
+        super("Webhook is already being processed", operationUuid, statusCode, signature);
+    }
+
+    /**
+     * Constructor sin parámetros adicionales.
+     */
+    public WebhookInProgressError() {
+        this(null, null, null);
+    }
+}
@@ -0,0 +1,31 @@
+package com.redpay.exceptions;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Excepción personalizada que se lanza cuando un webhook no puede encolarse
+ * porque la cola de procesamiento está llena.
+ */
+@Getter
+@ToString(callSuper = true)
+public class WebhookQueueFullError extends RedPayBaseError {
+
+    /**
+     * Constructor que permite asignar valores a operationUuid, statusCode y signature.
+     *
+     * @param operationUuid Identificador único de la operación (opcional).
+     * @param statusCode    Código de estado del error (opcional).
+     * @param signature     Firma del error (opcional).
+     */
+    public WebhookQueueFullError(String operationUuid, String statusCode, String signature) {
+        super("Webhook queue is full", operationUuid, statusCode, signature);
+    }
+
+    /**
+     * Constructor sin parámetros adicionales.
+     */
+    public WebhookQueueFullError() {
+        this(null, null, null);
+    }
+}
@@ -0,0 +1,46 @@
+package com.redpay.interfaces;
+
+/**
+ * Interfaz que define el almacenamiento de los contadores de reutilización de
+ * las órdenes, por token_uuid.
+ * <p>
+ * La verificación del límite y el incremento del contador se realizan en una
+ * única operación atómica, de modo que dos webhooks simultáneos de un mismo
+ * token no pueden superar el límite de reutilización de la orden. El SDK
+ * incluye una implementación en memoria
+ * ({@link com.redpay.services.InMemoryReuseCounterStore}); para compartir los
+ * contadores entre instancias o conservarlos tras un reinicio se puede
+ * implementar esta interfaz sobre un almacenamiento durable (por ejemplo, un
+ * {@code UPDATE ... WHERE count < limit} o un {@code INCR} condicional).
+ * </p>
+ */
+public interface ReuseCounterStore {
+
+    /**
+     * Incrementa el contador del token si aún no alcanzó el límite.
+     *
+     * @param tokenUuid El UUID del token de la orden.
+     * @param limit     Número máximo de reutilizaciones de la orden.
+     * @return true si el contador se incrementó, false si ya alcanzó el límite.
+     * @throws Exception Si ocurre algún error al acceder al almacenamiento.
+     */
+    public boolean tryIncrement(String tokenUuid, int limit) throws Exception;
+
+    /**
+     * Revierte un incremento realizado con {@link #tryIncrement(String, int)},
+     * cuando el procesamiento del webhook no se completó.
+     *
+     * @param tokenUuid El UUID del token de la orden.
+     * @throws Exception Si ocurre algún error al acceder al almacenamiento.
+     */
+    public void decrement(String tokenUuid) throws Exception;
+
+    /**
+     * Obtiene el valor actual del contador del token.
+     *
+     * @param tokenUuid El UUID del token de la orden.
+     * @return El número de reutilizaciones registradas.
+     * @throws Exception Si ocurre algún error al acceder al almacenamiento.
+     */
+    public int getCount(String tokenUuid) throws Exception;
+}
@@ -0,0 +1,61 @@
+package com.redpay.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Resumen del procesamiento de un lote de órdenes de autorización pendientes.
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class AuthorizationBatchStats {
+
+    /**
+     * Número de órdenes recibidas en el lote.
+     */
+    private final int total;
+
+    /**
+     * Número de órdenes que terminaron en el evento {@code onSuccess}.
+     */
+    private final int succeeded;
+
+    /**
+     * Número de órdenes exitosas que se resolvieron con un webhook, sin
+     * consultar a RedPay (incluidas en {@link #getSucceeded()}).
+     */
+    private final int resolved_by_webhook;
+
+    /**
+     * Número de órdenes que terminaron en el evento {@code onError}.
+     */
+    private final int failed;
+
+    /**
+     * Número de órdenes que quedaron con un reintento programado.
+     */
+    private final int retried;
+
+    /**
+     * Número de órdenes que no llegaron a procesarse, no obtuvieron respuesta
+     * o ya tenían un reintento en curso.
+     */
+    private final int skipped;
+
+    /**
+     * Duración del procesamiento del lote en milisegundos.
+     */
+    private final long elapsed_ms;
+
+    /**
+     * Obtiene el rendimiento del lote.
+     *
+     * @return Órdenes procesadas por segundo.
+     */
+    public double getThroughput() {
+        int processed = succeeded + failed;
+        return elapsed_ms > 0 ? processed * 1000.0 / elapsed_ms : processed;
+    }
+}
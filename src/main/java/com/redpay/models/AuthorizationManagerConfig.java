@@ -0,0 +1,199 @@
+package com.redpay.models;
+
+import com.redpay.enums.WebhookOverflowPolicy;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Clase que encapsula la configuración del procesamiento de autorizaciones de
+ * {@link com.redpay.services.RedPayAuthorizationManager}.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class AuthorizationManagerConfig {
+
+    /**
+     * Número máximo de órdenes pendientes que se validan en paralelo en cada
+     * ciclo, incluidos los reintentos programados (por defecto 1, es decir,
+     * procesamiento secuencial).
+     * <p>
+     * Con un valor mayor a 1, los eventos {@code onSuccess} y {@code onError}
+     * pueden invocarse de forma concurrente desde distintos hilos.
+     * </p>
+     */
+    int max_concurrency = 1;
+
+    /**
+     * Número máximo de intentos de validación de una orden cuando RedPay
+     * solicita reintentar (código 07-006), incluido el primero (por defecto
+     * 5). Agotados los intentos se invoca {@code onError}.
+     */
+    int retry_max_attempts = 5;
+
+    /**
+     * Espera antes del primer reintento (por defecto 2 segundos).
+     */
+    long retry_initial_delay_ms = 2_000;
+
+    /**
+     * Espera máxima entre reintentos (por defecto 30 segundos).
+     */
+    long retry_max_delay_ms = 30_000;
+
+    /**
+     * Factor de crecimiento de la espera entre reintentos consecutivos (por
+     * defecto 2).
+     */
+    double retry_multiplier = 2.0;
+
+    /**
+     * Variación aleatoria relativa aplicada a cada espera, entre 0 y 1 (por
+     * defecto 0.2, es decir, ±20%).
+     */
+    double retry_jitter = 0.2;
+
+    /**
+     * Periodo del procesamiento de órdenes pendientes (por defecto 1 segundo).
+     * Es también la espera entre la primera y la segunda revisión de una orden.
+     */
+    long poll_interval_ms = 1_000;
+
+    /**
+     * Espera máxima entre revisiones de una misma orden pendiente (por defecto
+     * 30 segundos).
+     */
+    long poll_max_interval_ms = 30_000;
+
+    /**
+     * Factor de crecimiento de la espera entre revisiones consecutivas de una
+     * misma orden pendiente (por defecto 1.5).
+     */
+    double poll_backoff_multiplier = 1.5;
+
+    /**
+     * Habilita la resolución de órdenes pendientes mediante los webhooks
+     * recibidos en {@code processWebhookPreAuthorize} (por defecto false).
+     * <p>
+     * Si está habilitada, una orden pendiente cuyo authorization_uuid fue
+     * informado por un webhook exitoso, procesado sin errores, se resuelve con
+     * el código de estado del webhook, sin consultar a RedPay. Solo las órdenes que no se resuelven dentro de
+     * {@link #webhook_resolution_timeout_ms} se consultan con
+     * {@code validateAuthorization}.
+     * </p>
+     */
+    boolean webhook_resolution_enabled = false;
+
+    /**
+     * Plazo para que un webhook resuelva una orden nueva antes de consultarla
+     * a RedPay (por defecto 10 segundos).
+     */
+    long webhook_resolution_timeout_ms = 10_000;
+
+    /**
+     * Número de órdenes pendientes que se leen y procesan por tramo en cada
+     * ciclo (por defecto 500). Se entrega como sugerencia a
+     * {@code streamPendingAuthorizeOrders}.
+     */
+    int poll_batch_size = 500;
+
+    /**
+     * Capacidad de la cola de webhooks recibidos con
+     * {@code submitWebhookPreAuthorize}, es decir, el número máximo de webhooks
+     * encolados o en proceso (por defecto 1000).
+     */
+    int webhook_queue_capacity = 1_000;
+
+    /**
+     * Número de hilos que procesan los webhooks encolados (por defecto 4).
+     * <p>
+     * Con un valor mayor a 1, los eventos {@code onPreAuthorizeEvent} y
+     * {@code onInfoEvent} pueden invocarse de forma concurrente para tokens
+     * distintos. Los webhooks de un mismo token_uuid siempre se procesan de a
+     * uno y en orden de llegada.
+     * </p>
+     */
+    int webhook_workers = 4;
+
+    /**
+     * Política aplicada cuando la cola de webhooks está llena (por defecto
+     * BLOCK).
+     */
+    WebhookOverflowPolicy webhook_overflow_policy = WebhookOverflowPolicy.BLOCK;
+
+    /**
+     * Espera máxima por espacio en la cola con la política BLOCK, tras la cual
+     * el webhook se rechaza (por defecto 5 segundos).
+     */
+    long webhook_block_timeout_ms = 5_000;
+
+    /**
+     * Habilita el descarte de webhooks repetidos (por defecto false).
+     * <p>
+     * Si está habilitado, un webhook con el mismo token_uuid,
+     * authorization_uuid, timestamp y firma que otro ya procesado sin error
+     * dentro de {@link #webhook_dedup_ttl_ms} se descarta antes de validar su
+     * firma o consultar la orden. Un reenvío que llega mientras el original
+     * aún está en la cola o en proceso se rechaza con
+     * {@code WebhookInProgressError}, para que RedPay lo reintente; así, si
+     * el procesamiento del original falla, el reenvío vuelve a procesarse.
+     * </p>
+     */
+    boolean webhook_dedup_enabled = false;
+
+    /**
+     * Número máximo de webhooks recordados para el descarte de repetidos (por
+     * defecto 100000).
+     */
+    int webhook_dedup_max_entries = 100_000;
+
+    /**
+     * Tiempo durante el cual se recuerda un webhook aceptado (por defecto 10
+     * minutos).
+     */
+    long webhook_dedup_ttl_ms = 600_000;
+
+    /**
+     * Habilita la caché de las órdenes obtenidas con {@code getOrder} (por
+     * defecto false).
+     * <p>
+     * Las órdenes se guardan por token_uuid hasta
+     * {@link #order_cache_ttl_ms} y se invalidan automáticamente cuando el
+     * token se revoca con {@code revokeToken} de RedPayService o
+     * RedPayAsyncService. Las órdenes guardadas se comparten entre webhooks,
+     * por lo que no deben modificarse.
+     * </p>
+     */
+    boolean order_cache_enabled = false;
+
+    /**
+     * Número máximo de órdenes guardadas en la caché (por defecto 10000).
+     */
+    int order_cache_max_entries = 10_000;
+
+    /**
+     * Tiempo máximo durante el cual se guarda una orden (por defecto 300
+     * segundos, la vigencia por defecto de un token). Puede reducirse por orden
+     * sobrescribiendo {@code orderCacheTtlMillis}.
+     */
+    long order_cache_ttl_ms = 300_000;
+
+    /**
+     * Habilita el rechazo anticipado de los webhooks de tokens revocados (por
+     * defecto false).
+     * <p>
+     * Si está habilitado, los webhooks de pre-autorización exitosos cuyo token
+     * figura en el índice de revocaciones de
+     * {@code RedPayRevocationNotifier} se rechazan con
+     * {@code OrderIsRevokedError} después de validar la firma y antes de
+     * consultar la orden.
+     * </p>
+     */
+    boolean revocation_index_enabled = false;
+}
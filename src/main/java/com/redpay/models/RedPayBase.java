@@ -1,18 +1,15 @@
 package com.redpay.models;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.redpay.config.RedPayJsonCodec;
 import com.redpay.enums.PathUrl;
 import com.redpay.interfaces.RoleActions;
+import com.redpay.provider.RedPayClientProvider;
 import com.redpay.requests.ValidateTokenRequest;
 import com.redpay.responses.GenerateUserResponse;
 import com.redpay.responses.ValidateAuthorizationResponse;
 import com.redpay.responses.ValidateTokenResponse;
 
-import java.util.Map;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
-
 /**
  * Clase base abstracta que implementa las operaciones definidas en
  * {@link RoleActions}.
@@ -24,20 +21,14 @@ import java.util.stream.Stream;
  */
 public abstract class RedPayBase implements RoleActions {
 
-    /**
-     * Objeto {@link ObjectMapper} utilizado para la conversión entre objetos
-     * Java y Mapas, y para la serialización/deserialización de JSON.
-     */
-    private static final ObjectMapper objectMapper = new ObjectMapper();
-
     /**
      * Cliente HTTP utilizado para comunicarse con los servicios de RedPay.
      */
     protected final RedPayClient client;
 
     /**
-     * Constructor por defecto que inicializa el cliente con una instancia por
-     * defecto de {@link RedPayClient}.
+     * Constructor por defecto que inicializa el cliente con la instancia
+     * compartida de {@link RedPayClient} para la configuración global.
      */
     public RedPayBase() {
         this(null);
@@ -48,10 +39,10 @@ public abstract class RedPayBase implements RoleActions {
      * {@link RedPayClient}.
      *
      * @param client Instancia de {@link RedPayClient} a utilizar. Si es nulo,
-     * se crea una instancia por defecto.
+     * se utiliza la instancia compartida de {@link RedPayClientProvider}.
      */
     public RedPayBase(RedPayClient client) {
-        this.client = (client != null) ? client : new RedPayClient();
+        this.client = (client != null) ? client : RedPayClientProvider.getInstance().getClient();
     }
 
     /**
@@ -66,14 +57,7 @@ public abstract class RedPayBase implements RoleActions {
      */
     @Override
     public <T extends UserBase> GenerateUserResponse createUser(T userInstance) throws Exception {
-        Map<String, Object> body = objectMapper.convertValue(
-                userInstance, new TypeReference<Map<String, Object>>() {
-        }
-        );
-
-        String jsonResponse = client.post(PathUrl.User.getPath(), body);
-
-        return objectMapper.readValue(jsonResponse, GenerateUserResponse.class);
+        return client.post(PathUrl.User.getPath(), userInstance, GenerateUserResponse.class);
     }
 
     /**
@@ -89,14 +73,7 @@ public abstract class RedPayBase implements RoleActions {
      */
     @Override
     public <T extends UserBase> GenerateUserResponse updateUser(T userInstance) throws Exception {
-        Map<String, Object> body = objectMapper.convertValue(
-                userInstance, new TypeReference<Map<String, Object>>() {
-        }
-        );
-
-        String jsonResponse = client.put(PathUrl.User.getPath(), body);
-
-        return objectMapper.readValue(jsonResponse, GenerateUserResponse.class);
+        return client.put(PathUrl.User.getPath(), userInstance, GenerateUserResponse.class);
     }
 
     /**
@@ -118,23 +95,14 @@ public abstract class RedPayBase implements RoleActions {
     public <T extends UserBase> GenerateUserResponse updateUserPartial(T userInstance) throws Exception {
         GenerateUserResponse currentResponse = getUserOrFail(userInstance);
 
-        Map<String, Object> currentUserMap = objectMapper.convertValue(
-                currentResponse.getUser(), new TypeReference<Map<String, Object>>() {
-        }
-        );
-        Map<String, Object> newUserMap = objectMapper.convertValue(
-                userInstance, new TypeReference<Map<String, Object>>() {
-        }
-        );
-
-        for (Map.Entry<String, Object> entry : newUserMap.entrySet()) {
-            if (entry.getValue() != null) {
-                currentUserMap.put(entry.getKey(), entry.getValue());
+        ObjectNode currentUser = RedPayJsonCodec.toTree(currentResponse.getUser());
+        RedPayJsonCodec.toTree(userInstance).fields().forEachRemaining(entry -> {
+            if (!entry.getValue().isNull()) {
+                currentUser.set(entry.getKey(), entry.getValue());
             }
-        }
+        });
 
-        String jsonResponse = client.put(PathUrl.User.getPath(), currentUserMap);
-        return objectMapper.readValue(jsonResponse, GenerateUserResponse.class);
+        return client.put(PathUrl.User.getPath(), currentUser, GenerateUserResponse.class);
     }
 
     /**
@@ -150,18 +118,9 @@ public abstract class RedPayBase implements RoleActions {
      */
     @Override
     public <T extends UserBase> GenerateUserResponse getUser(T userInstance) throws Exception {
-        Map<String, Object> fullParams = objectMapper.convertValue(
-                userInstance, new TypeReference<Map<String, Object>>() {
-        }
-        );
+        ObjectNode params = RedPayJsonCodec.toTree(userInstance).retain("enroller_user_id", "user_type");
 
-        Map<String, Object> params = Stream.of("enroller_user_id", "user_type")
-                .filter(fullParams::containsKey)
-                .collect(Collectors.toMap(key -> key, fullParams::get));
-
-        String jsonResponse = client.get(PathUrl.UserVerify.getPath(), params);
-
-        return objectMapper.readValue(jsonResponse, GenerateUserResponse.class);
+        return client.get(PathUrl.UserVerify.getPath(), params, GenerateUserResponse.class);
     }
 
     /**
@@ -178,18 +137,9 @@ public abstract class RedPayBase implements RoleActions {
      */
     @Override
     public <T extends UserBase> GenerateUserResponse getUserOrFail(T userInstance) throws Exception {
-        Map<String, Object> fullParams = objectMapper.convertValue(
-                userInstance, new TypeReference<Map<String, Object>>() {
-        }
-        );
-
-        Map<String, Object> params = Stream.of("enroller_user_id", "user_type")
-                .filter(fullParams::containsKey)
-                .collect(Collectors.toMap(key -> key, fullParams::get));
-
-        String jsonResponse = client.getOrFail(PathUrl.UserVerify.getPath(), params);
+        ObjectNode params = RedPayJsonCodec.toTree(userInstance).retain("enroller_user_id", "user_type");
 
-        return objectMapper.readValue(jsonResponse, GenerateUserResponse.class);
+        return client.getOrFail(PathUrl.UserVerify.getPath(), params, GenerateUserResponse.class);
     }
 
     /**
@@ -203,14 +153,7 @@ public abstract class RedPayBase implements RoleActions {
      */
     @Override
     public ValidateTokenResponse validateToken(ValidateTokenRequest validateTokenRequest) throws Exception {
-        Map<String, Object> body = objectMapper.convertValue(
-                validateTokenRequest, new TypeReference<Map<String, Object>>() {
-        }
-        );
-
-        String jsonResponse = client.post(PathUrl.ValidateToken.getPath(), body);
-
-        return objectMapper.readValue(jsonResponse, ValidateTokenResponse.class);
+        return client.post(PathUrl.ValidateToken.getPath(), validateTokenRequest, ValidateTokenResponse.class);
     }
 
     /**
@@ -226,13 +169,6 @@ public abstract class RedPayBase implements RoleActions {
      */
     @Override
     public <T extends ValidateAuthorization> ValidateAuthorizationResponse validateAuthorization(T validateAuthorization) throws Exception {
-        Map<String, Object> body = objectMapper.convertValue(
-                validateAuthorization, new TypeReference<Map<String, Object>>() {
-        }
-        );
-
-        String jsonResponse = client.post(PathUrl.ValidateAuthorization.getPath(), body);
-
-        return objectMapper.readValue(jsonResponse, ValidateAuthorizationResponse.class);
+        return client.post(PathUrl.ValidateAuthorization.getPath(), validateAuthorization, ValidateAuthorizationResponse.class);
     }
 }
@@ -1,8 +1,12 @@
 package com.redpay.models;
 
+import java.io.Closeable;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.StringReader;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
@@ -11,30 +15,58 @@ import java.security.PrivateKey;
 import java.security.Security;
 import java.security.cert.Certificate;
 import java.security.cert.CertificateFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 
 import javax.net.ssl.SSLContext;
 
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.async.methods.SimpleRequestProducer;
 import org.apache.hc.client5.http.classic.methods.HttpGet;
 import org.apache.hc.client5.http.classic.methods.HttpPost;
 import org.apache.hc.client5.http.classic.methods.HttpPut;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.H2AsyncClientBuilder;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
 import org.apache.hc.client5.http.socket.ConnectionSocketFactory;
 import org.apache.hc.client5.http.socket.PlainConnectionSocketFactory;
+import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
 import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactory;
+import org.apache.hc.core5.concurrent.FutureCallback;
 import org.apache.hc.core5.http.ClassicHttpRequest;
 import org.apache.hc.core5.http.ClassicHttpResponse;
 import org.apache.hc.core5.http.ContentType;
-import org.apache.hc.core5.http.ParseException;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.Message;
 import org.apache.hc.core5.http.config.Registry;
 import org.apache.hc.core5.http.config.RegistryBuilder;
 import org.apache.hc.core5.http.io.SocketConfig;
-import org.apache.hc.core5.http.io.entity.EntityUtils;
-import org.apache.hc.core5.http.io.entity.StringEntity;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
+import org.apache.hc.core5.http.nio.entity.AbstractBinAsyncEntityConsumer;
+import org.apache.hc.core5.http.nio.support.BasicResponseConsumer;
+import org.apache.hc.core5.io.CloseMode;
 import org.apache.hc.core5.ssl.SSLContextBuilder;
+import org.apache.hc.core5.util.ByteArrayBuffer;
+import org.apache.hc.core5.util.TimeValue;
 import org.apache.hc.core5.util.Timeout;
 import org.bouncycastle.asn1.pkcs.PrivateKeyInfo;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
@@ -44,11 +76,14 @@ import org.bouncycastle.openssl.jcajce.JcaPEMKeyConverter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.redpay.config.ByteArrayPool;
 import com.redpay.config.ConstantsRedPay;
+import com.redpay.config.RedPayExecutors;
+import com.redpay.config.RedPayJsonCodec;
+import com.redpay.enums.HttpProtocol;
 import com.redpay.enums.RedPayEnvironment;
 import com.redpay.exceptions.ApiError;
 import com.redpay.exceptions.InvalidSignatureError;
@@ -63,16 +98,46 @@ import com.redpay.services.RedPayIntegrityService;
  * certificados, firmar las solicitudes con un servicio de integridad y validar
  * la respuesta del servidor.
  * </p>
+ * <p>
+ * Cada instancia mantiene su propio contexto TLS y pool de conexiones, por lo
+ * que se recomienda obtenerla a través de
+ * {@link com.redpay.provider.RedPayClientProvider} para compartirla entre
+ * todos los servicios de una misma configuración.
+ * </p>
  */
-public class RedPayClient {
+public class RedPayClient implements Closeable {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(RedPayClient.class);
 
     /**
-     * Cliente HTTP utilizado para realizar las solicitudes.
+     * Tamaño de los búferes reutilizables para los cuerpos de solicitud y
+     * respuesta. Cubre los cuerpos habituales de RedPay; los de mayor tamaño
+     * utilizan un arreglo propio.
+     */
+    private static final int BODY_BUFFER_SIZE = 16 * 1024;
+
+    /**
+     * Número máximo de búferes libres conservados en el pool.
+     */
+    private static final int MAX_POOLED_BODY_BUFFERS = 64;
+
+    /**
+     * Contexto SSL (mTLS) compartido por los clientes síncrono y asíncrono.
+     */
+    private final SSLContext sslContext;
+
+    /**
+     * Cliente HTTP/1.1 utilizado para realizar las solicitudes síncronas, o
+     * null con HTTP/2, donde todas las solicitudes usan el cliente asíncrono.
      */
     private final CloseableHttpClient httpClient;
 
+    /**
+     * Cliente HTTP asíncrono, creado de forma diferida en la primera solicitud
+     * asíncrona.
+     */
+    private volatile CloseableHttpAsyncClient asyncClient;
+
     /**
      * Configuración de RedPay obtenida a través de un proveedor de
      * configuración.
@@ -84,22 +149,77 @@ public class RedPayClient {
      */
     private final RedPayIntegrityService integrityService;
 
+    /**
+     * Ejecutor de los procesos internos asociados a este cliente, como la
+     * validación de las respuestas asíncronas. Utiliza el tipo de hilos
+     * indicado en {@link RedPayConfig#getExecution_mode()}.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * Búferes reutilizables en los que se serializan las solicitudes y se leen
+     * las respuestas síncronas.
+     */
+    private final ByteArrayPool bodyBuffers = new ByteArrayPool(BODY_BUFFER_SIZE, MAX_POOLED_BODY_BUFFERS);
+
+    /**
+     * Tamaño máximo aceptado para el cuerpo de una respuesta, en bytes.
+     */
+    private final int maxResponseBodyBytes;
+
+    /**
+     * Indica si las solicitudes se envían por HTTP/2
+     * ({@link TransportConfig#getHttp_protocol()}).
+     */
+    private final boolean http2;
+
     /**
      * Constructor que inicializa la configuración, el servicio de integridad y
      * el cliente HTTP.
      */
     public RedPayClient() {
-        this.config = RedPayConfigProvider.getInstance().getConfig();
+        this(RedPayConfigProvider.getInstance().getConfig());
+    }
+
+    /**
+     * Constructor que inicializa el servicio de integridad y el cliente HTTP a
+     * partir de la configuración indicada.
+     *
+     * @param config Configuración de RedPay a utilizar.
+     */
+    public RedPayClient(RedPayConfig config) {
+        this.config = config;
         this.integrityService = new RedPayIntegrityService();
-        this.httpClient = createHttpClient();
+        this.sslContext = loadSSLContext();
+        this.http2 = getTransportConfig().getHttp_protocol() == HttpProtocol.HTTP_2;
+        // Con HTTP/2 no se abre el pool HTTP/1.1, que nunca se usaría
+        this.httpClient = http2 ? null : createHttpClient();
+        this.executor = RedPayExecutors.newExecutor("RedPayWorker", config.getExecution_mode());
+        this.maxResponseBodyBytes = Math.max(1, getTransportConfig().getMax_response_body_bytes());
     }
 
     /**
-     * Crea y configura un cliente HTTP seguro (mTLS) utilizando certificados.
+     * Obtiene el ejecutor de los procesos internos asociados a este cliente.
+     * <p>
+     * Las respuestas asíncronas se validan y completan en este ejecutor, por
+     * lo que las etapas encadenadas a los futuros de
+     * {@link #postAsync(String, Object)} y similares no ocupan los hilos de
+     * I/O del cliente HTTP.
+     * </p>
      *
-     * @return Instancia de {@link CloseableHttpClient} configurada para mTLS.
+     * @return El ejecutor del cliente.
      */
-    private CloseableHttpClient createHttpClient() {
+    public ExecutorService getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Carga la clave privada y el certificado configurados y construye el
+     * contexto SSL utilizado para mTLS.
+     *
+     * @return El {@link SSLContext} configurado.
+     */
+    private SSLContext loadSSLContext() {
         if (config.getCertificate() == null) {
             throw new IllegalStateException("No se encontró configuración de certificados.");
         }
@@ -111,7 +231,20 @@ public class RedPayClient {
             PrivateKey privateKey = loadPrivateKey(keyPath);
             Certificate certificate = loadCertificate(certPath);
             KeyStore keyStore = createKeyStore(privateKey, certificate);
-            SSLContext sslContext = createSSLContext(keyStore);
+            return createSSLContext(keyStore);
+        } catch (Exception e) {
+            LOGGER.error("Error al configurar SSL", e);
+            throw new RuntimeException("Error al configurar SSL", e);
+        }
+    }
+
+    /**
+     * Crea y configura un cliente HTTP seguro (mTLS) utilizando certificados.
+     *
+     * @return Instancia de {@link CloseableHttpClient} configurada para mTLS.
+     */
+    private CloseableHttpClient createHttpClient() {
+        try {
             SSLConnectionSocketFactory sslSocketFactory = new SSLConnectionSocketFactory(sslContext);
 
             Registry<ConnectionSocketFactory> socketFactoryRegistry = RegistryBuilder.<ConnectionSocketFactory>create()
@@ -119,21 +252,155 @@ public class RedPayClient {
                     .register("http", PlainConnectionSocketFactory.getSocketFactory())
                     .build();
 
+            TransportConfig transport = getTransportConfig();
+
             PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(socketFactoryRegistry);
+            connectionManager.setMaxTotal(transport.getMax_connections_total());
+            connectionManager.setDefaultMaxPerRoute(transport.getMax_connections_per_route());
             SocketConfig socketConfig = SocketConfig.custom()
-                    .setSoTimeout(Timeout.ofSeconds(30))
+                    .setSoTimeout(Timeout.ofMilliseconds(transport.getResponse_timeout_ms()))
                     .build();
             connectionManager.setDefaultSocketConfig(socketConfig);
+            connectionManager.setDefaultConnectionConfig(createConnectionConfig(transport));
 
-            return HttpClients.custom()
+            HttpClientBuilder builder = HttpClients.custom()
                     .setConnectionManager(connectionManager)
-                    .build();
+                    .setDefaultRequestConfig(createRequestConfig(transport));
+            if (transport.getIdle_eviction_ms() > 0) {
+                builder.evictExpiredConnections()
+                        .evictIdleConnections(TimeValue.ofMilliseconds(transport.getIdle_eviction_ms()));
+            }
+            return builder.build();
         } catch (Exception e) {
             LOGGER.error("Error al configurar SSL", e);
             throw new RuntimeException("Error al configurar SSL", e);
         }
     }
 
+    /**
+     * Crea y arranca un cliente HTTP asíncrono (mTLS) que comparte el contexto
+     * SSL del cliente síncrono.
+     *
+     * @return Instancia de {@link CloseableHttpAsyncClient} ya iniciada.
+     */
+    private CloseableHttpAsyncClient createAsyncHttpClient() {
+        TransportConfig transport = getTransportConfig();
+        if (http2) {
+            return createHttp2Client(transport);
+        }
+
+        PoolingAsyncClientConnectionManager connectionManager = PoolingAsyncClientConnectionManagerBuilder.create()
+                .setTlsStrategy(ClientTlsStrategyBuilder.create()
+                        .setSslContext(sslContext)
+                        .build())
+                .setMaxConnTotal(transport.getMax_connections_total())
+                .setMaxConnPerRoute(transport.getMax_connections_per_route())
+                .setDefaultConnectionConfig(createConnectionConfig(transport))
+                .build();
+
+        HttpAsyncClientBuilder builder = HttpAsyncClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(createRequestConfig(transport));
+        if (transport.getIdle_eviction_ms() > 0) {
+            builder.evictExpiredConnections()
+                    .evictIdleConnections(TimeValue.ofMilliseconds(transport.getIdle_eviction_ms()));
+        }
+
+        CloseableHttpAsyncClient client = builder.build();
+        client.start();
+        return client;
+    }
+
+    /**
+     * Crea y arranca un cliente HTTP/2 (mTLS) que comparte el contexto SSL del
+     * cliente síncrono.
+     * <p>
+     * El cliente mantiene una única conexión por host y multiplexa sobre ella
+     * todas las solicitudes concurrentes, por lo que no utiliza un pool de
+     * conexiones.
+     * </p>
+     *
+     * @param transport Configuración de transporte.
+     * @return Instancia de {@link CloseableHttpAsyncClient} ya iniciada.
+     */
+    private CloseableHttpAsyncClient createHttp2Client(TransportConfig transport) {
+        H2AsyncClientBuilder builder = HttpAsyncClients.customHttp2()
+                .setTlsStrategy(ClientTlsStrategyBuilder.create()
+                        .setSslContext(sslContext)
+                        .build())
+                .setDefaultConnectionConfig(createConnectionConfig(transport))
+                .setDefaultRequestConfig(createRequestConfig(transport));
+        if (transport.getIdle_eviction_ms() > 0) {
+            builder.evictIdleConnections(TimeValue.ofMilliseconds(transport.getIdle_eviction_ms()));
+        }
+
+        CloseableHttpAsyncClient client = builder.build();
+        client.start();
+        return client;
+    }
+
+    /**
+     * Obtiene la configuración de transporte, utilizando los valores por
+     * defecto si no fue especificada.
+     *
+     * @return La configuración de transporte a aplicar.
+     */
+    private TransportConfig getTransportConfig() {
+        return config.getTransport() != null ? config.getTransport() : new TransportConfig();
+    }
+
+    /**
+     * Construye la configuración de conexiones del pool: tiempo de conexión,
+     * tiempo de espera de lectura, tiempo de vida y validación tras
+     * inactividad.
+     *
+     * @param transport La configuración de transporte.
+     * @return La configuración de conexiones.
+     */
+    private ConnectionConfig createConnectionConfig(TransportConfig transport) {
+        ConnectionConfig.Builder builder = ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(transport.getConnect_timeout_ms()))
+                .setSocketTimeout(Timeout.ofMilliseconds(transport.getResponse_timeout_ms()))
+                .setValidateAfterInactivity(TimeValue.ofMilliseconds(transport.getValidate_after_inactivity_ms()));
+        if (transport.getConnection_ttl_ms() > 0) {
+            builder.setTimeToLive(TimeValue.ofMilliseconds(transport.getConnection_ttl_ms()));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Construye la configuración por defecto de las solicitudes: tiempo de
+     * espera de la respuesta y tiempo de espera de una conexión del pool.
+     *
+     * @param transport La configuración de transporte.
+     * @return La configuración de solicitudes.
+     */
+    private RequestConfig createRequestConfig(TransportConfig transport) {
+        return RequestConfig.custom()
+                .setResponseTimeout(Timeout.ofMilliseconds(transport.getResponse_timeout_ms()))
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(transport.getConnection_request_timeout_ms()))
+                .build();
+    }
+
+    /**
+     * Obtiene el cliente HTTP asíncrono, creándolo en el primer uso.
+     *
+     * @return El cliente HTTP asíncrono iniciado.
+     */
+    private CloseableHttpAsyncClient getAsyncClient() {
+        CloseableHttpAsyncClient client = asyncClient;
+        if (client == null) {
+            synchronized (this) {
+                client = asyncClient;
+                if (client == null) {
+                    client = createAsyncHttpClient();
+                    asyncClient = client;
+                }
+            }
+        }
+        return client;
+    }
+
     /**
      * Crea un KeyStore en memoria y almacena la clave privada junto con el
      * certificado.
@@ -235,75 +502,241 @@ public class RedPayClient {
      *
      * @param method Método HTTP ("GET", "POST", "PUT").
      * @param path Ruta del endpoint.
-     * @param data Datos a enviar en la solicitud.
-     * @return La respuesta en formato JSON.
+     * @param data Datos a enviar en la solicitud (DTO, mapa o árbol JSON).
+     * @param mapper Conversión del árbol JSON verificado en el resultado.
+     * @param <T> Tipo del resultado.
+     * @return La respuesta convertida por {@code mapper}.
      * @throws Exception Si ocurre algún error durante la solicitud o firma.
      */
-    private String request(String method, String path, Map<String, Object> data) throws Exception {
+    private <T> T request(String method, String path, Object data, ResponseMapper<T> mapper) throws Exception {
+        if (http2) {
+            // El cliente HTTP/1.1 no soporta HTTP/2: se utiliza el cliente multiplexado y se espera la respuesta
+            return await(requestAsync(method, path, data, mapper));
+        }
+
         String url = getApiUrl() + path;
-        ObjectMapper mapper = new ObjectMapper();
 
-        // Configurar el mapper para omitir valores nulos al serializar
-        mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        ObjectNode signedData = signData(data);
 
-        Map<String, Object> filteredData = data.entrySet()
-                .stream()
-                .filter(entry -> entry.getValue() != null)
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        ClassicHttpRequest request;
 
-        // Firmar los datos utilizando el servicio de integridad
-        Map<String, Object> signedData = integrityService.getSignedObject(filteredData, getSecretIntegrity());
+        // El cuerpo se serializa en un búfer del pool, que se devuelve al terminar la solicitud
+        byte[] buffer = bodyBuffers.acquire();
+        try {
+            switch (method.toUpperCase()) {
+                case "GET" -> {
+                    String queryString = toQueryString(signedData);
+                    String fullUrl = url + queryString;
+                    System.out.println("Request URL: " + fullUrl);
+                    request = new HttpGet(fullUrl);
+                }
+                case "POST" -> {
+                    HttpPost postRequest = new HttpPost(url);
+                    postRequest.setEntity(toEntity(signedData, buffer));
+                    request = postRequest;
+                }
+                case "PUT" -> {
+                    HttpPut putRequest = new HttpPut(url);
+                    putRequest.setEntity(toEntity(signedData, buffer));
+                    request = putRequest;
+                }
+                default ->
+                    throw new IllegalArgumentException("Método HTTP no soportado: " + method);
+            }
 
-        String jsonPayload = mapper.writeValueAsString(signedData);
+            request.addHeader("Content-Type", "application/json");
 
-        ClassicHttpRequest request;
+            return mapper.map(httpClient.execute(request, this::handleResponse));
+        } finally {
+            bodyBuffers.release(buffer);
+        }
+    }
 
-        switch (method.toUpperCase()) {
-            case "GET" -> {
-                String queryString = toQueryString(signedData);
-                String fullUrl = url + queryString;
-                System.out.println("Request URL: " + fullUrl);
-                request = new HttpGet(fullUrl);
-            }
-            case "POST" -> {
-                HttpPost postRequest = new HttpPost(url);
-                postRequest.setEntity(new StringEntity(jsonPayload, ContentType.parse("UTF-8")));
-                request = postRequest;
+    /**
+     * Espera el resultado de una solicitud asíncrona desde una solicitud
+     * síncrona, propagando el error original.
+     *
+     * @param future Futuro de la solicitud.
+     * @param <T> Tipo del resultado.
+     * @return El resultado de la solicitud.
+     * @throws Exception Si la solicitud falla o el hilo es interrumpido.
+     */
+    private static <T> T await(CompletableFuture<T> future) throws Exception {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw e;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception exception) {
+                throw exception;
             }
-            case "PUT" -> {
-                HttpPut putRequest = new HttpPut(url);
-                putRequest.setEntity(new StringEntity(jsonPayload, ContentType.parse("UTF-8")));
-                request = putRequest;
+            if (cause instanceof Error error) {
+                throw error;
             }
-            default ->
-                throw new IllegalArgumentException("Método HTTP no soportado: " + method);
+            throw e;
         }
+    }
+
+    /**
+     * Realiza una solicitud HTTP genérica firmada de forma asíncrona, sin
+     * bloquear el hilo que la invoca.
+     * <p>
+     * La firma de la solicitud y la validación de la firma de la respuesta son
+     * las mismas que en {@link #request(String, String, Object, ResponseMapper)}.
+     * </p>
+     *
+     * @param method Método HTTP ("GET", "POST", "PUT").
+     * @param path Ruta del endpoint.
+     * @param data Datos a enviar en la solicitud (DTO, mapa o árbol JSON).
+     * @param mapper Conversión del árbol JSON verificado en el resultado.
+     * @param <T> Tipo del resultado.
+     * @return Un {@link CompletableFuture} que se completa con la respuesta
+     * convertida por {@code mapper}, o excepcionalmente si la solicitud, la
+     * validación o la conversión fallan.
+     */
+    private <T> CompletableFuture<T> requestAsync(String method, String path, Object data, ResponseMapper<T> mapper) {
+        CompletableFuture<T> future = new CompletableFuture<>();
 
-        request.addHeader("Content-Type", "application/json");
+        try {
+            String url = getApiUrl() + path;
 
-        return httpClient.execute(request, this::handleResponse);
+            ObjectNode signedData = signData(data);
+
+            SimpleHttpRequest request = switch (method.toUpperCase()) {
+                case "GET" -> SimpleRequestBuilder.get(url + toQueryString(signedData)).build();
+                case "POST" -> SimpleRequestBuilder.post(url)
+                        .setBody(toPayload(signedData), ContentType.APPLICATION_JSON)
+                        .build();
+                case "PUT" -> SimpleRequestBuilder.put(url)
+                        .setBody(toPayload(signedData), ContentType.APPLICATION_JSON)
+                        .build();
+                default ->
+                    throw new IllegalArgumentException("Método HTTP no soportado: " + method);
+            };
+
+            request.addHeader("Content-Type", "application/json");
+
+            FutureCallback<Message<HttpResponse, ByteArrayBuffer>> callback = new FutureCallback<>() {
+                @Override
+                public void completed(Message<HttpResponse, ByteArrayBuffer> response) {
+                    try {
+                        // La validación de la firma y la conversión se realizan fuera de los hilos de I/O
+                        executor.execute(() -> {
+                            try {
+                                ByteArrayBuffer body = response.getBody() != null ? response.getBody() : new ByteArrayBuffer(0);
+                                future.complete(mapper.map(validateResponse(response.getHead().getCode(), body.array(), body.length())));
+                            } catch (Exception e) {
+                                future.completeExceptionally(e);
+                            }
+                        });
+                    } catch (RejectedExecutionException e) {
+                        future.completeExceptionally(e);
+                    }
+                }
+
+                @Override
+                public void failed(Exception e) {
+                    future.completeExceptionally(e);
+                }
+
+                @Override
+                public void cancelled() {
+                    future.cancel(false);
+                }
+            };
+
+            getAsyncClient().execute(
+                    SimpleRequestProducer.create(request),
+                    new BasicResponseConsumer<>(new CappedBodyConsumer(maxResponseBodyBytes)),
+                    callback);
+        } catch (Exception e) {
+            future.completeExceptionally(e);
+        }
+
+        return future;
+    }
+
+    /**
+     * Convierte los datos de la solicitud en un árbol JSON en una sola pasada,
+     * descarta los campos nulos de primer nivel y agrega la firma de
+     * integridad calculada sobre ese mismo árbol.
+     *
+     * @param data Datos a firmar (DTO, mapa o árbol JSON).
+     * @return El árbol JSON con los datos no nulos y el campo "signature".
+     */
+    private ObjectNode signData(Object data) {
+        ObjectNode signedData = data instanceof ObjectNode node ? node : RedPayJsonCodec.toTree(data);
+
+        List<String> nullFields = new ArrayList<>();
+        signedData.fields().forEachRemaining(entry -> {
+            if (entry.getValue().isNull()) {
+                nullFields.add(entry.getKey());
+            }
+        });
+        signedData.remove(nullFields);
+
+        // Firmar los datos utilizando el servicio de integridad
+        signedData.put("signature", integrityService.generateSignature(signedData, getSecretIntegrity()));
+        return signedData;
     }
 
     /**
-     * Convierte un mapa de parámetros en una cadena de consulta (query string)
-     * con codificación URL.
+     * Serializa el árbol JSON firmado en el cuerpo de la solicitud.
      *
-     * @param params Mapa de parámetros a convertir.
+     * @param signedData Árbol JSON firmado.
+     * @return El cuerpo de la solicitud codificado en UTF-8.
+     * @throws IOException Si ocurre un error durante la serialización.
+     */
+    private byte[] toPayload(ObjectNode signedData) throws IOException {
+        // El escritor de solicitudes omite los valores nulos al serializar
+        return RedPayJsonCodec.payloadWriter().writeValueAsBytes(signedData);
+    }
+
+    /**
+     * Serializa el árbol JSON firmado directamente en el búfer indicado y lo
+     * expone como entidad de la solicitud, sin copias intermedias.
+     *
+     * @param signedData Árbol JSON firmado.
+     * @param buffer Búfer del pool en el que se escribe el cuerpo. Debe
+     * conservarse hasta que termine la solicitud.
+     * @return La entidad de la solicitud. Si el cuerpo no cabe en el búfer se
+     * utiliza un arreglo propio.
+     * @throws IOException Si ocurre un error durante la serialización.
+     */
+    private HttpEntity toEntity(ObjectNode signedData, byte[] buffer) throws IOException {
+        BoundedArrayOutputStream out = new BoundedArrayOutputStream(buffer);
+        RedPayJsonCodec.payloadWriter().writeValue(out, signedData);
+        if (out.isOverflowed()) {
+            return new ByteArrayEntity(toPayload(signedData), ContentType.APPLICATION_JSON);
+        }
+        return new ByteArrayEntity(buffer, 0, out.size(), ContentType.APPLICATION_JSON);
+    }
+
+    /**
+     * Convierte un árbol JSON de parámetros en una cadena de consulta (query
+     * string) con codificación URL.
+     *
+     * @param params Parámetros a convertir.
      * @return La cadena de consulta generada.
      * @throws Exception Si ocurre un error durante la codificación.
      */
-    private String toQueryString(Map<String, Object> params) throws Exception {
+    private String toQueryString(ObjectNode params) throws Exception {
         if (params == null || params.isEmpty()) {
             return "";
         }
         StringBuilder query = new StringBuilder("?");
-        for (Map.Entry<String, Object> entry : params.entrySet()) {
+        for (Iterator<Map.Entry<String, JsonNode>> it = params.fields(); it.hasNext();) {
+            Map.Entry<String, JsonNode> entry = it.next();
+            JsonNode value = entry.getValue();
             if (query.length() > 1) {
                 query.append("&");
             }
             query.append(java.net.URLEncoder.encode(entry.getKey(), "UTF-8"));
             query.append("=");
-            query.append(java.net.URLEncoder.encode(String.valueOf(entry.getValue()), "UTF-8"));
+            query.append(java.net.URLEncoder.encode(value.isValueNode() ? value.asText() : value.toString(), "UTF-8"));
         }
         return query.toString();
     }
@@ -312,98 +745,502 @@ public class RedPayClient {
      * Maneja la respuesta HTTP, validando el código de estado y la firma de
      * integridad.
      *
+     * <p>
+     * El cuerpo se lee desde el flujo de la conexión en un búfer del pool, sin
+     * convertirlo a texto, y se rechaza si supera el tamaño máximo configurado
+     * en {@link TransportConfig#getMax_response_body_bytes()}.
+     * </p>
+     *
      * @param response La respuesta HTTP recibida.
-     * @return El cuerpo de la respuesta en formato String.
-     * @throws IOException Si ocurre un error de entrada/salida.
-     * @throws ParseException Si ocurre un error al parsear la respuesta.
+     * @return El árbol JSON del cuerpo de la respuesta, ya verificado.
+     * @throws IOException Si ocurre un error de entrada/salida o el cuerpo
+     * supera el tamaño máximo.
      */
-    private String handleResponse(ClassicHttpResponse response) throws IOException, ParseException {
+    private JsonNode handleResponse(ClassicHttpResponse response) throws IOException {
         int statusCode = response.getCode();
-        String responseBody = EntityUtils.toString(response.getEntity());
-    
+        HttpEntity entity = response.getEntity();
+
+        byte[] buffer = bodyBuffers.acquire();
+        try {
+            byte[] body = buffer;
+            int length = 0;
+            if (entity != null) {
+                if (entity.getContentLength() > maxResponseBodyBytes) {
+                    throw responseTooLarge();
+                }
+                try (InputStream in = entity.getContent()) {
+                    int read;
+                    while (in != null && (read = in.read(body, length, body.length - length)) != -1) {
+                        length += read;
+                        if (length > maxResponseBodyBytes) {
+                            throw responseTooLarge();
+                        }
+                        if (length == body.length) {
+                            if (body.length >= maxResponseBodyBytes) {
+                                if (in.read() != -1) {
+                                    throw responseTooLarge();
+                                }
+                                break;
+                            }
+                            body = Arrays.copyOf(body, (int) Math.min(body.length * 2L, maxResponseBodyBytes));
+                        }
+                    }
+                }
+            }
+            return validateResponse(statusCode, body, length);
+        } finally {
+            bodyBuffers.release(buffer);
+        }
+    }
+
+    /**
+     * Crea el error de lectura de una respuesta que supera el tamaño máximo.
+     *
+     * @return El error a lanzar.
+     */
+    private IOException responseTooLarge() {
+        LOGGER.error("La respuesta supera el tamaño máximo de {} bytes", maxResponseBodyBytes);
+        return new IOException("La respuesta supera el tamaño máximo de " + maxResponseBodyBytes + " bytes");
+    }
+
+    /**
+     * Valida el código de estado y la firma de integridad del cuerpo de una
+     * respuesta, común a las solicitudes síncronas y asíncronas.
+     * <p>
+     * El cuerpo se lee una única vez como árbol JSON: la firma se calcula sobre
+     * ese árbol y el mismo árbol se utiliza después para construir el DTO de
+     * respuesta, sin volver a parsear el texto.
+     * </p>
+     *
+     * @param statusCode Código de estado HTTP de la respuesta.
+     * @param responseBody Arreglo que contiene el cuerpo de la respuesta en UTF-8.
+     * @param length Longitud del cuerpo, en bytes.
+     * @return El árbol JSON del cuerpo de la respuesta.
+     * @throws IOException Si el cuerpo no es un objeto JSON válido.
+     */
+    private JsonNode validateResponse(int statusCode, byte[] responseBody, int length) throws IOException {
         // Si el código no es 2xx, se lanza una excepción de ApiError
         if (statusCode < 200 || statusCode >= 300) {
-            LOGGER.error("Error en la respuesta: HTTP {}. Body: {}", statusCode, responseBody);
-            ApiError apiError = ApiError.fromResponse(statusCode, responseBody);
+            String body = new String(responseBody, 0, length, StandardCharsets.UTF_8);
+            LOGGER.error("Error en la respuesta: HTTP {}. Body: {}", statusCode, body);
+            ApiError apiError = ApiError.fromResponse(statusCode, body);
             if (statusCode >= 500) {
                 LOGGER.error("Error interno del servidor (HTTP {}): {}", statusCode, apiError);
             }
             throw apiError;
         }
-    
+
+        JsonNode responseTree;
         try {
-            ObjectMapper mapper = new ObjectMapper();
-            Map<String, Object> responseMap = mapper.readValue(responseBody, new TypeReference<Map<String, Object>>() {});
-    
-            String providedSignature = responseMap.get("signature").toString();
-            String computedSignature = integrityService.generateSignature(responseMap, getSecretIntegrity());
-    
-            if (!providedSignature.equals(computedSignature)) {
-                LOGGER.error("Firma inválida. Firma proporcionada: {}. Firma calculada: {}", providedSignature, computedSignature);
-                throw new InvalidSignatureError();
-            }
+            responseTree = RedPayJsonCodec.readTree(responseBody, 0, length);
         } catch (JsonProcessingException e) {
-            LOGGER.error("Error al parsear la respuesta JSON. Body: {}", responseBody, e);
+            LOGGER.error("Error al parsear la respuesta JSON. Body: {}", new String(responseBody, 0, length, StandardCharsets.UTF_8), e);
             throw new IOException("Error al parsear la respuesta JSON", e);
         }
-    
-        return responseBody;
+        if (responseTree == null || !responseTree.isObject()) {
+            LOGGER.error("La respuesta no es un objeto JSON. Body: {}", new String(responseBody, 0, length, StandardCharsets.UTF_8));
+            throw new IOException("Error al parsear la respuesta JSON");
+        }
+
+        JsonNode signature = responseTree.get("signature");
+        String providedSignature = signature != null && !signature.isNull() ? signature.asText() : null;
+        String computedSignature = integrityService.generateSignature(responseTree, getSecretIntegrity());
+
+        if (!computedSignature.equals(providedSignature)) {
+            LOGGER.error("Firma inválida. Firma proporcionada: {}. Firma calculada: {}", providedSignature, computedSignature);
+            throw new InvalidSignatureError();
+        }
+
+        return responseTree;
+    }
+
+    /**
+     * Construye el DTO de respuesta a partir del árbol JSON ya verificado.
+     *
+     * @param tree Árbol JSON de la respuesta.
+     * @param type Tipo del DTO de respuesta.
+     * @param <T> Tipo del DTO de respuesta.
+     * @return El DTO de respuesta.
+     * @throws IOException Si el árbol no corresponde al tipo indicado.
+     */
+    private static <T> T bind(JsonNode tree, Class<T> type) throws IOException {
+        return RedPayJsonCodec.reader(type).readValue(tree);
+    }
+
+    /**
+     * Flujo de salida sobre un arreglo de tamaño fijo. Si el contenido no cabe
+     * en el arreglo, descarta el resto y queda marcado como desbordado.
+     */
+    private static final class BoundedArrayOutputStream extends OutputStream {
+
+        private final byte[] buffer;
+
+        private int size;
+
+        private boolean overflowed;
+
+        BoundedArrayOutputStream(byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void write(int b) {
+            if (size < buffer.length) {
+                buffer[size++] = (byte) b;
+            } else {
+                overflowed = true;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            if (overflowed || len > buffer.length - size) {
+                overflowed = true;
+                return;
+            }
+            System.arraycopy(b, off, buffer, size, len);
+            size += len;
+        }
+
+        int size() {
+            return size;
+        }
+
+        boolean isOverflowed() {
+            return overflowed;
+        }
+    }
+
+    /**
+     * Consumidor del cuerpo de las respuestas asíncronas que acumula los bytes
+     * recibidos y aborta la respuesta si supera el tamaño máximo.
+     */
+    private static final class CappedBodyConsumer extends AbstractBinAsyncEntityConsumer<ByteArrayBuffer> {
+
+        private final int maxBytes;
+
+        private ByteArrayBuffer buffer;
+
+        CappedBodyConsumer(int maxBytes) {
+            this.maxBytes = maxBytes;
+        }
+
+        @Override
+        protected void streamStart(ContentType contentType) {
+            buffer = new ByteArrayBuffer(1024);
+        }
+
+        @Override
+        protected int capacityIncrement() {
+            return Integer.MAX_VALUE;
+        }
+
+        @Override
+        protected void data(ByteBuffer src, boolean endOfStream) throws IOException {
+            if (src == null) {
+                return;
+            }
+            if ((long) buffer.length() + src.remaining() > maxBytes) {
+                throw new IOException("La respuesta supera el tamaño máximo de " + maxBytes + " bytes");
+            }
+            buffer.append(src);
+        }
+
+        @Override
+        protected ByteArrayBuffer generateContent() {
+            return buffer;
+        }
+
+        @Override
+        public void releaseResources() {
+            // El búfer se entrega al llamador junto con la respuesta
+        }
+    }
+
+    /**
+     * Conversión del árbol JSON verificado de una respuesta en el resultado
+     * entregado al llamador.
+     *
+     * @param <T> Tipo del resultado.
+     */
+    @FunctionalInterface
+    private interface ResponseMapper<T> {
+
+        T map(JsonNode tree) throws IOException;
     }
 
     /**
      * Realiza una solicitud GET firmada.
      *
      * @param path Ruta del endpoint.
-     * @param params Parámetros a incluir en la solicitud.
+     * @param params Parámetros a incluir en la solicitud (DTO, mapa o árbol JSON).
      * @return La respuesta en formato JSON.
      */
-    public String get(String path, Map<String, Object> params) {
+    public String get(String path, Object params) {
         try {
-            return request("GET", path, params);
+            return request("GET", path, params, JsonNode::toString);
         } catch (Exception e) {
             LOGGER.error("Error en GET {}: {}", path, e.getMessage());
             return "{}";
         }
     }
 
+    /**
+     * Realiza una solicitud GET firmada y construye el DTO de respuesta a
+     * partir del cuerpo verificado.
+     * <p>
+     * Al igual que {@link #get(String, Object)}, si la solicitud falla se
+     * devuelve el DTO correspondiente a un objeto JSON vacío.
+     * </p>
+     *
+     * @param path Ruta del endpoint.
+     * @param params Parámetros a incluir en la solicitud (DTO, mapa o árbol JSON).
+     * @param type Tipo del DTO de respuesta.
+     * @param <T> Tipo del DTO de respuesta.
+     * @return El DTO de respuesta.
+     * @throws IOException Si no es posible construir el DTO vacío.
+     */
+    public <T> T get(String path, Object params, Class<T> type) throws IOException {
+        try {
+            return request("GET", path, params, tree -> bind(tree, type));
+        } catch (Exception e) {
+            LOGGER.error("Error en GET {}: {}", path, e.getMessage());
+            return bind(RedPayJsonCodec.toTree(Map.of()), type);
+        }
+    }
+
     /**
      * Realiza una solicitud GET que lanza excepción si el recurso no es
      * encontrado.
      *
      * @param path Ruta del endpoint.
-     * @param params Parámetros a incluir en la solicitud.
+     * @param params Parámetros a incluir en la solicitud (DTO, mapa o árbol JSON).
      * @return La respuesta en formato JSON.
      * @throws Exception Si ocurre algún error durante la solicitud.
      */
-    public String getOrFail(String path, Map<String, Object> params) throws Exception {
-        String response = request("GET", path, params);
-        if (response.isEmpty()) {
-            throw new RuntimeException("Usuario no encontrado");
-        }
-        return response;
+    public String getOrFail(String path, Object params) throws Exception {
+        return request("GET", path, params, tree -> notFoundIfEmpty(tree).toString());
+    }
+
+    /**
+     * Realiza una solicitud GET que lanza excepción si el recurso no es
+     * encontrado, y construye el DTO de respuesta a partir del cuerpo
+     * verificado.
+     *
+     * @param path Ruta del endpoint.
+     * @param params Parámetros a incluir en la solicitud (DTO, mapa o árbol JSON).
+     * @param type Tipo del DTO de respuesta.
+     * @param <T> Tipo del DTO de respuesta.
+     * @return El DTO de respuesta.
+     * @throws Exception Si ocurre algún error durante la solicitud.
+     */
+    public <T> T getOrFail(String path, Object params, Class<T> type) throws Exception {
+        return request("GET", path, params, tree -> bind(notFoundIfEmpty(tree), type));
     }
 
     /**
      * Realiza una solicitud POST firmada.
      *
      * @param path Ruta del endpoint.
-     * @param body Cuerpo de la solicitud en forma de mapa.
+     * @param body Cuerpo de la solicitud (DTO, mapa o árbol JSON).
      * @return La respuesta en formato JSON.
      * @throws Exception Si ocurre algún error durante la solicitud.
      */
-    public String post(String path, Map<String, Object> body) throws Exception {
-        return request("POST", path, body);
+    public String post(String path, Object body) throws Exception {
+        return request("POST", path, body, JsonNode::toString);
+    }
+
+    /**
+     * Realiza una solicitud POST firmada y construye el DTO de respuesta a
+     * partir del cuerpo verificado.
+     *
+     * @param path Ruta del endpoint.
+     * @param body Cuerpo de la solicitud (DTO, mapa o árbol JSON).
+     * @param type Tipo del DTO de respuesta.
+     * @param <T> Tipo del DTO de respuesta.
+     * @return El DTO de respuesta.
+     * @throws Exception Si ocurre algún error durante la solicitud.
+     */
+    public <T> T post(String path, Object body, Class<T> type) throws Exception {
+        return request("POST", path, body, tree -> bind(tree, type));
     }
 
     /**
      * Realiza una solicitud PUT firmada.
      *
      * @param path Ruta del endpoint.
-     * @param body Cuerpo de la solicitud en forma de mapa.
+     * @param body Cuerpo de la solicitud (DTO, mapa o árbol JSON).
      * @return La respuesta en formato JSON.
      * @throws Exception Si ocurre algún error durante la solicitud.
      */
-    public String put(String path, Map<String, Object> body) throws Exception {
-        return request("PUT", path, body);
+    public String put(String path, Object body) throws Exception {
+        return request("PUT", path, body, JsonNode::toString);
+    }
+
+    /**
+     * Realiza una solicitud PUT firmada y construye el DTO de respuesta a
+     * partir del cuerpo verificado.
+     *
+     * @param path Ruta del endpoint.
+     * @param body Cuerpo de la solicitud (DTO, mapa o árbol JSON).
+     * @param type Tipo del DTO de respuesta.
+     * @param <T> Tipo del DTO de respuesta.
+     * @return El DTO de respuesta.
+     * @throws Exception Si ocurre algún error durante la solicitud.
+     */
+    public <T> T put(String path, Object body, Class<T> type) throws Exception {
+        return request("PUT", path, body, tree -> bind(tree, type));
+    }
+
+    /**
+     * Realiza una solicitud GET firmada de forma asíncrona.
+     * <p>
+     * Al igual que {@link #get(String, Object)}, si la solicitud falla el futuro
+     * se completa con un objeto JSON vacío.
+     * </p>
+     *
+     * @param path Ruta del endpoint.
+     * @param params Parámetros a incluir en la solicitud (DTO, mapa o árbol JSON).
+     * @return Un {@link CompletableFuture} con la respuesta en formato JSON.
+     */
+    public CompletableFuture<String> getAsync(String path, Object params) {
+        return requestAsync("GET", path, params, JsonNode::toString)
+                .exceptionally(e -> {
+                    LOGGER.error("Error en GET {}: {}", path, e.getMessage());
+                    return "{}";
+                });
+    }
+
+    /**
+     * Realiza una solicitud GET firmada de forma asíncrona y construye el DTO
+     * de respuesta a partir del cuerpo verificado.
+     * <p>
+     * Al igual que {@link #getAsync(String, Object)}, si la solicitud falla el
+     * futuro se completa con el DTO correspondiente a un objeto JSON vacío.
+     * </p>
+     *
+     * @param path Ruta del endpoint.
+     * @param params Parámetros a incluir en la solicitud (DTO, mapa o árbol JSON).
+     * @param type Tipo del DTO de respuesta.
+     * @param <T> Tipo del DTO de respuesta.
+     * @return Un {@link CompletableFuture} con el DTO de respuesta.
+     */
+    public <T> CompletableFuture<T> getAsync(String path, Object params, Class<T> type) {
+        return requestAsync("GET", path, params, tree -> bind(tree, type))
+                .exceptionally(e -> {
+                    LOGGER.error("Error en GET {}: {}", path, e.getMessage());
+                    try {
+                        return bind(RedPayJsonCodec.toTree(Map.of()), type);
+                    } catch (IOException ex) {
+                        throw new CompletionException(ex);
+                    }
+                });
+    }
+
+    /**
+     * Realiza una solicitud GET asíncrona que falla si el recurso no es
+     * encontrado.
+     *
+     * @param path Ruta del endpoint.
+     * @param params Parámetros a incluir en la solicitud (DTO, mapa o árbol JSON).
+     * @return Un {@link CompletableFuture} con la respuesta en formato JSON.
+     */
+    public CompletableFuture<String> getOrFailAsync(String path, Object params) {
+        return requestAsync("GET", path, params, tree -> notFoundIfEmpty(tree).toString());
+    }
+
+    /**
+     * Realiza una solicitud GET asíncrona que falla si el recurso no es
+     * encontrado, y construye el DTO de respuesta a partir del cuerpo
+     * verificado.
+     *
+     * @param path Ruta del endpoint.
+     * @param params Parámetros a incluir en la solicitud (DTO, mapa o árbol JSON).
+     * @param type Tipo del DTO de respuesta.
+     * @param <T> Tipo del DTO de respuesta.
+     * @return Un {@link CompletableFuture} con el DTO de respuesta.
+     */
+    public <T> CompletableFuture<T> getOrFailAsync(String path, Object params, Class<T> type) {
+        return requestAsync("GET", path, params, tree -> bind(notFoundIfEmpty(tree), type));
+    }
+
+    /**
+     * Realiza una solicitud POST firmada de forma asíncrona.
+     *
+     * @param path Ruta del endpoint.
+     * @param body Cuerpo de la solicitud (DTO, mapa o árbol JSON).
+     * @return Un {@link CompletableFuture} con la respuesta en formato JSON.
+     */
+    public CompletableFuture<String> postAsync(String path, Object body) {
+        return requestAsync("POST", path, body, JsonNode::toString);
+    }
+
+    /**
+     * Realiza una solicitud POST firmada de forma asíncrona y construye el DTO
+     * de respuesta a partir del cuerpo verificado.
+     *
+     * @param path Ruta del endpoint.
+     * @param body Cuerpo de la solicitud (DTO, mapa o árbol JSON).
+     * @param type Tipo del DTO de respuesta.
+     * @param <T> Tipo del DTO de respuesta.
+     * @return Un {@link CompletableFuture} con el DTO de respuesta.
+     */
+    public <T> CompletableFuture<T> postAsync(String path, Object body, Class<T> type) {
+        return requestAsync("POST", path, body, tree -> bind(tree, type));
+    }
+
+    /**
+     * Realiza una solicitud PUT firmada de forma asíncrona.
+     *
+     * @param path Ruta del endpoint.
+     * @param body Cuerpo de la solicitud (DTO, mapa o árbol JSON).
+     * @return Un {@link CompletableFuture} con la respuesta en formato JSON.
+     */
+    public CompletableFuture<String> putAsync(String path, Object body) {
+        return requestAsync("PUT", path, body, JsonNode::toString);
+    }
+
+    /**
+     * Realiza una solicitud PUT firmada de forma asíncrona y construye el DTO
+     * de respuesta a partir del cuerpo verificado.
+     *
+     * @param path Ruta del endpoint.
+     * @param body Cuerpo de la solicitud (DTO, mapa o árbol JSON).
+     * @param type Tipo del DTO de respuesta.
+     * @param <T> Tipo del DTO de respuesta.
+     * @return Un {@link CompletableFuture} con el DTO de respuesta.
+     */
+    public <T> CompletableFuture<T> putAsync(String path, Object body, Class<T> type) {
+        return requestAsync("PUT", path, body, tree -> bind(tree, type));
+    }
+
+    /**
+     * Verifica que la respuesta de una búsqueda contenga datos.
+     *
+     * @param tree Árbol JSON de la respuesta.
+     * @return El mismo árbol, si no está vacío.
+     * @throws RuntimeException Si la respuesta está vacía.
+     */
+    private static JsonNode notFoundIfEmpty(JsonNode tree) {
+        if (tree.isEmpty()) {
+            throw new RuntimeException("Usuario no encontrado");
+        }
+        return tree;
+    }
+
+    /**
+     * Cierra los clientes HTTP síncrono y asíncrono, liberando las conexiones
+     * del pool, y detiene el ejecutor del cliente.
+     */
+    @Override
+    public void close() {
+        if (httpClient != null) {
+            httpClient.close(CloseMode.GRACEFUL);
+        }
+        CloseableHttpAsyncClient client = asyncClient;
+        if (client != null) {
+            client.close(CloseMode.GRACEFUL);
+        }
+        executor.shutdown();
     }
 }
@@ -1,6 +1,7 @@
 package com.redpay.models;
 
 import com.redpay.enums.Enroller;
+import com.redpay.enums.ExecutionMode;
 import com.redpay.enums.RedPayEnvironment;
 
 import lombok.AllArgsConstructor;
@@ -14,7 +15,8 @@ import lombok.ToString;
  * Clase que encapsula la configuración para la integración con RedPay.
  * <p>
  * Esta configuración incluye los secretos de autenticación, el entorno de operación,
- * el certificado para mTLS, el tipo de enrolador y la configuración de cuentas asociada.
+ * el certificado para mTLS, el tipo de enrolador, la configuración de cuentas asociada y,
+ * opcionalmente, la configuración de transporte HTTP y el tipo de hilos de los procesos internos.
  * </p>
  */
 @Getter
@@ -49,4 +51,47 @@ public class RedPayConfig {
      */
     @NonNull
     ConfigurationAccounts accounts;
+
+    /**
+     * Configuración del pool de conexiones y tiempos de espera HTTP.
+     * <p>
+     * Si no se especifica, se utilizan los valores por defecto de {@link TransportConfig}.
+     * </p>
+     */
+    TransportConfig transport = new TransportConfig();
+
+    /**
+     * Tipo de hilos utilizados por los procesos internos del SDK (por defecto
+     * {@link ExecutionMode#PLATFORM}).
+     */
+    ExecutionMode execution_mode = ExecutionMode.PLATFORM;
+
+    /**
+     * Constructor que mantiene el modo de ejecución por defecto.
+     *
+     * @param secrets     Secretos de la integración.
+     * @param environment Entorno de operación.
+     * @param certificate Certificado mTLS.
+     * @param type        Tipo de enrolador.
+     * @param accounts    Configuración de cuentas.
+     * @param transport   Configuración de transporte HTTP.
+     */
+    public RedPayConfig(Secrets secrets, RedPayEnvironment environment, Certificates certificate, Enroller type,
+            @NonNull ConfigurationAccounts accounts, TransportConfig transport) {
+        this(secrets, environment, certificate, type, accounts, transport, ExecutionMode.PLATFORM);
+    }
+
+    /**
+     * Constructor que mantiene la configuración de transporte por defecto.
+     *
+     * @param secrets     Secretos de la integración.
+     * @param environment Entorno de operación.
+     * @param certificate Certificado mTLS.
+     * @param type        Tipo de enrolador.
+     * @param accounts    Configuración de cuentas.
+     */
+    public RedPayConfig(Secrets secrets, RedPayEnvironment environment, Certificates certificate, Enroller type,
+            @NonNull ConfigurationAccounts accounts) {
+        this(secrets, environment, certificate, type, accounts, new TransportConfig());
+    }
 }
@@ -0,0 +1,232 @@
+package com.redpay.models;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.crypto.Mac;
+
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.binary.StringUtils;
+import org.apache.commons.codec.digest.HmacAlgorithms;
+import org.apache.commons.codec.digest.HmacUtils;
+
+import com.redpay.enums.AccountAuthorization;
+import com.redpay.enums.AuthorizationMode;
+import com.redpay.enums.SbifCode;
+import com.redpay.provider.RedPayConfigProvider;
+import com.redpay.services.RedPayIntegrityService;
+
+/**
+ * Fábrica de cuentas de autorización firmadas ({@link SignedAuthorizationAccount}).
+ * <p>
+ * Para cada {@link AuthorizationMode} precalcula la parte constante de la
+ * firma (la cuenta y su identificador) en un {@link Mac} ya inicializado con el
+ * secreto correspondiente. Cada cuenta firmada clona ese estado y solo agrega
+ * la marca de tiempo, de modo que generar los fillers de autorización y
+ * devolución no vuelve a serializar ni firmar la cuenta completa.
+ * </p>
+ * <p>
+ * Las plantillas se reconstruyen automáticamente si cambia la configuración
+ * global, el secreto del modo o el contenido de la cuenta (identificador,
+ * número, banco o tipo), incluso si la cuenta se modifica mediante sus
+ * setters.
+ * </p>
+ */
+public class SignedAuthorizationAccountFactory {
+
+    private static final SignedAuthorizationAccountFactory instance = new SignedAuthorizationAccountFactory();
+
+    /**
+     * Prefijo canónico del único campo variable de la firma.
+     */
+    private static final byte[] TIMESTAMP_KEY = "timestamp".getBytes(StandardCharsets.UTF_8);
+
+    private final RedPayIntegrityService integrityService = new RedPayIntegrityService();
+
+    /**
+     * Plantillas precalculadas por modo de autorización.
+     */
+    private final Map<AuthorizationMode, Template> templates = new ConcurrentHashMap<>();
+
+    private SignedAuthorizationAccountFactory() {
+    }
+
+    /**
+     * Obtiene la instancia única de la fábrica.
+     *
+     * @return La instancia de SignedAuthorizationAccountFactory.
+     */
+    public static SignedAuthorizationAccountFactory getInstance() {
+        return instance;
+    }
+
+    /**
+     * Crea una cuenta de autorización firmada para el modo indicado, con la
+     * marca de tiempo actual.
+     *
+     * @param mode El modo de autorización a utilizar.
+     * @return La cuenta de autorización firmada.
+     * @throws IllegalArgumentException Si la cuenta o el secreto del modo no
+     * están configurados.
+     * @throws IOException Si ocurre un error al precalcular la firma.
+     */
+    public SignedAuthorizationAccount create(AuthorizationMode mode) throws IOException {
+        RedPayConfig config = RedPayConfigProvider.getInstance().getConfig();
+
+        AccountEnrollerConfig account = ensureAccount(getAccountForMode(config, mode));
+        String secret = ensureSecret(getSecretForMode(config, mode));
+
+        Template template = templates.get(mode);
+        if (template == null || !template.matches(config, account, secret)) {
+            template = new Template(config, account, secret);
+            templates.put(mode, template);
+        }
+
+        long timestamp = System.currentTimeMillis();
+        return new SignedAuthorizationAccount(account.getId(), account, timestamp, template.sign(timestamp));
+    }
+
+    /**
+     * Obtiene la cuenta configurada para el modo de autorización.
+     *
+     * @param config La configuración actual de RedPay.
+     * @param mode   El modo de autorización.
+     * @return La cuenta del enrolador asociada al modo, o null si no existe.
+     */
+    private AccountEnrollerConfig getAccountForMode(RedPayConfig config, AuthorizationMode mode) {
+        return switch (mode) {
+            case Authorize -> config.getAccounts().getAuthorize();
+            case Chargeback -> config.getAccounts().getChargeback();
+            case Chargeback_Automatic -> config.getAccounts().getChargeback_automatic();
+            default -> throw new IllegalArgumentException("Authorization mode \"" + mode + "\" is not supported.");
+        };
+    }
+
+    /**
+     * Obtiene el secreto configurado para el modo de autorización.
+     *
+     * @param config La configuración actual de RedPay.
+     * @param mode   El modo de autorización.
+     * @return El secreto asociado al modo, o null si no existe.
+     */
+    private String getSecretForMode(RedPayConfig config, AuthorizationMode mode) {
+        return switch (mode) {
+            case Authorize -> config.getSecrets().getAuthorize();
+            case Chargeback -> config.getSecrets().getChargeback();
+            case Chargeback_Automatic -> config.getSecrets().getChargeback_automatic();
+            default -> throw new IllegalArgumentException("Authorization mode \"" + mode + "\" is not supported.");
+        };
+    }
+
+    /**
+     * Valida que la cuenta no sea nula.
+     *
+     * @param account La configuración de la cuenta del enrolador.
+     * @return La cuenta si es válida.
+     */
+    private AccountEnrollerConfig ensureAccount(AccountEnrollerConfig account) {
+        if (account == null) {
+            throw new IllegalArgumentException("Account is undefined for the given mode.");
+        }
+        return account;
+    }
+
+    /**
+     * Asegura que el secreto no sea nulo o vacío.
+     *
+     * @param secret El secreto a validar.
+     * @return El secreto si es válido.
+     */
+    private String ensureSecret(String secret) {
+        if (secret == null || secret.isEmpty()) {
+            throw new IllegalArgumentException("Secret is undefined for the given mode.");
+        }
+        return secret;
+    }
+
+    /**
+     * Parte constante de la firma de un modo de autorización.
+     */
+    private final class Template {
+
+        private final RedPayConfig config;
+
+        private final String secret;
+
+        /**
+         * Contenido de la cuenta con el que se calculó el prefijo.
+         */
+        private final String accountId;
+
+        private final int accountNumber;
+
+        private final SbifCode accountBank;
+
+        private final AccountAuthorization accountType;
+
+        /**
+         * Representación canónica de los campos "account" e "id".
+         */
+        private final byte[] prefix;
+
+        /**
+         * {@link Mac} inicializado con el secreto y actualizado con el
+         * prefijo. Nunca se modifica: cada firma trabaja sobre un clon.
+         */
+        private final Mac primed;
+
+        Template(RedPayConfig config, AccountEnrollerConfig account, String secret) throws IOException {
+            this.config = config;
+            this.secret = secret;
+            this.accountId = account.getId();
+            this.accountNumber = account.getNumber();
+            this.accountBank = account.getBank();
+            this.accountType = account.getType();
+
+            Map<String, Object> constantFields = new LinkedHashMap<>();
+            constantFields.put("account", account);
+            constantFields.put("id", account.getId());
+            this.prefix = integrityService.canonicalize(constantFields);
+
+            this.primed = newMac();
+        }
+
+        boolean matches(RedPayConfig config, AccountEnrollerConfig account, String secret) {
+            return this.config == config
+                    && this.secret.equals(secret)
+                    && Objects.equals(accountId, account.getId())
+                    && accountNumber == account.getNumber()
+                    && accountBank == account.getBank()
+                    && accountType == account.getType();
+        }
+
+        /**
+         * Completa la firma con la marca de tiempo indicada.
+         *
+         * @param timestamp Marca de tiempo de la cuenta firmada.
+         * @return La firma en formato hexadecimal.
+         */
+        String sign(long timestamp) {
+            Mac mac;
+            try {
+                mac = (Mac) primed.clone();
+            } catch (CloneNotSupportedException e) {
+                // El proveedor no permite clonar: se recalcula el prefijo
+                mac = newMac();
+            }
+            mac.update(TIMESTAMP_KEY);
+            mac.update(Long.toString(timestamp).getBytes(StandardCharsets.US_ASCII));
+            return Hex.encodeHexString(mac.doFinal());
+        }
+
+        private Mac newMac() {
+            Mac mac = HmacUtils.getInitializedMac(HmacAlgorithms.HMAC_SHA_256, StringUtils.getBytesUtf8(secret));
+            mac.update(prefix);
+            return mac;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.redpay.models;
+
+import com.redpay.enums.HttpProtocol;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Clase que encapsula la configuración de transporte HTTP hacia RedPay.
+ * <p>
+ * Permite ajustar el tamaño del pool de conexiones, los tiempos de espera, el
+ * tiempo de vida de las conexiones, la limpieza de conexiones inactivas, el
+ * tamaño máximo de las respuestas y la versión del protocolo HTTP. Todos los
+ * tiempos se expresan en milisegundos.
+ * </p>
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class TransportConfig {
+
+    /**
+     * Número máximo de conexiones abiertas en el pool (por defecto 100). Se
+     * ignora con {@link HttpProtocol#HTTP_2}.
+     */
+    int max_connections_total = 100;
+
+    /**
+     * Número máximo de conexiones abiertas hacia un mismo host (por defecto 50).
+     * <p>
+     * Todas las solicitudes van al mismo host de RedPay, por lo que este valor
+     * limita la concurrencia efectiva. Se ignora con
+     * {@link HttpProtocol#HTTP_2}.
+     * </p>
+     */
+    int max_connections_per_route = 50;
+
+    /**
+     * Tiempo máximo para establecer una conexión (por defecto 10 segundos).
+     */
+    long connect_timeout_ms = 10_000;
+
+    /**
+     * Tiempo máximo de espera de la respuesta de RedPay (por defecto 30 segundos).
+     */
+    long response_timeout_ms = 30_000;
+
+    /**
+     * Tiempo máximo de espera para obtener una conexión del pool (por defecto 10 segundos).
+     */
+    long connection_request_timeout_ms = 10_000;
+
+    /**
+     * Tiempo de vida máximo de una conexión, tras el cual no se reutiliza
+     * (por defecto 5 minutos). Un valor menor o igual a 0 no limita el tiempo de vida.
+     */
+    long connection_ttl_ms = 300_000;
+
+    /**
+     * Tiempo de inactividad tras el cual una conexión es cerrada por el
+     * proceso de limpieza en segundo plano (por defecto 30 segundos). Un valor
+     * menor o igual a 0 desactiva la limpieza.
+     */
+    long idle_eviction_ms = 30_000;
+
+    /**
+     * Tiempo de inactividad tras el cual una conexión se valida antes de ser
+     * reutilizada (por defecto 2 segundos).
+     */
+    long validate_after_inactivity_ms = 2_000;
+
+    /**
+     * Tamaño máximo aceptado para el cuerpo de una respuesta, en bytes (por
+     * defecto 1 MiB). Las respuestas de mayor tamaño se descartan con un
+     * error de lectura.
+     */
+    int max_response_body_bytes = 1024 * 1024;
+
+    /**
+     * Versión del protocolo HTTP utilizada hacia RedPay (por defecto HTTP_1_1).
+     * <p>
+     * Con {@link HttpProtocol#HTTP_2} las solicitudes síncronas y asíncronas
+     * se multiplexan sobre una conexión por host y no se crea el pool de
+     * conexiones HTTP/1.1, por lo que {@code max_connections_total} y
+     * {@code max_connections_per_route} se ignoran.
+     * </p>
+     */
+    HttpProtocol http_protocol = HttpProtocol.HTTP_1_1;
+}
@@ -0,0 +1,63 @@
+package com.redpay.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Clase que encapsula la configuración del receptor de webhooks embebido
+ * ({@link com.redpay.services.RedPayWebhookReceiver}).
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class WebhookReceiverConfig {
+
+    /**
+     * Dirección en la que escucha el receptor (por defecto todas las
+     * interfaces).
+     */
+    String host = "0.0.0.0";
+
+    /**
+     * Puerto en el que escucha el receptor (por defecto 8080). Con 0 se
+     * utiliza un puerto libre.
+     */
+    int port = 8080;
+
+    /**
+     * Ruta en la que se reciben los webhooks (por defecto "/webhook").
+     */
+    String path = "/webhook";
+
+    /**
+     * Tamaño máximo del cuerpo de un webhook (por defecto 64 KB). Los cuerpos
+     * de mayor tamaño se rechazan con HTTP 413.
+     */
+    int max_body_bytes = 65_536;
+
+    /**
+     * Indica si los webhooks se encolan con {@code submitWebhookPreAuthorize}
+     * y se responden tras validar su firma (por defecto true), o si se procesan
+     * completamente con {@code processWebhookPreAuthorize} antes de responder.
+     */
+    boolean async_dispatch = true;
+
+    /**
+     * Número máximo de conexiones pendientes de aceptar (por defecto 0, el
+     * valor del sistema).
+     */
+    int backlog = 0;
+
+    /**
+     * Número de hilos de plataforma que atienden las solicitudes (por defecto
+     * 16). Las conexiones que llegan con todos los hilos ocupados esperan en
+     * cola. No aplica en modo {@code VIRTUAL}, donde cada solicitud usa un
+     * hilo virtual.
+     */
+    int worker_threads = 16;
+}
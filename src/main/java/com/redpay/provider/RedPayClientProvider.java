@@ -0,0 +1,153 @@
+package com.redpay.provider;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.redpay.models.RedPayClient;
+import com.redpay.models.RedPayConfig;
+
+import lombok.ToString;
+
+/**
+ * Registro de transporte para RedPay. Gestiona una única instancia de
+ * {@link RedPayClient} por cada {@link RedPayConfig}.
+ * <p>
+ * Todos los servicios creados para una misma configuración (ER, EP, Dual,
+ * asíncrono y el gestor de autorizaciones) comparten el mismo cliente, y con
+ * ello el mismo contexto TLS y el mismo pool de conexiones.
+ * </p>
+ * <p>
+ * El cliente se reconstruye si cambian los valores de la configuración que
+ * fija al crearse (certificados, transporte y modo de ejecución), y se
+ * cierra el anterior. Lo mismo ocurre con el cliente de la configuración
+ * global cuando esta se reemplaza. Los servicios creados antes del cambio
+ * conservan el cliente cerrado, por lo que deben crearse de nuevo.
+ * </p>
+ */
+@ToString
+public class RedPayClientProvider {
+
+    private static final RedPayClientProvider instance = new RedPayClientProvider();
+
+    /**
+     * Clientes registrados. {@link RedPayConfig} no redefine
+     * {@code equals}/{@code hashCode}, por lo que cada configuración se
+     * identifica por su instancia.
+     */
+    private final Map<RedPayConfig, Entry> clients = new ConcurrentHashMap<>();
+
+    /**
+     * Última configuración global para la que se entregó un cliente.
+     */
+    private final AtomicReference<RedPayConfig> globalConfig = new AtomicReference<>();
+
+    private RedPayClientProvider() {
+    }
+
+    /**
+     * Obtiene la instancia única del registro.
+     *
+     * @return La instancia de RedPayClientProvider.
+     */
+    public static RedPayClientProvider getInstance() {
+        return instance;
+    }
+
+    /**
+     * Obtiene el cliente compartido para la configuración global de RedPay.
+     *
+     * @return El cliente asociado a la configuración global.
+     * @throws IllegalStateException Si la configuración global no está establecida.
+     */
+    public RedPayClient getClient() {
+        RedPayConfig config = RedPayConfigProvider.getInstance().getConfig();
+        if (config == null) {
+            throw new IllegalStateException("La configuración de RedPay no está establecida.");
+        }
+        RedPayConfig previous = globalConfig.getAndSet(config);
+        if (previous != null && previous != config) {
+            close(previous);
+        }
+        return getClient(config);
+    }
+
+    /**
+     * Obtiene el cliente compartido para la configuración indicada, creándolo
+     * en el primer uso o si la configuración cambió desde su creación.
+     * <p>
+     * El cliente se construye fuera del registro, ya que lee los certificados
+     * y crea el contexto TLS; si otro hilo registra uno en paralelo, el
+     * construido se cierra y se entrega el registrado.
+     * </p>
+     *
+     * @param config La configuración de RedPay.
+     * @return El cliente asociado a la configuración.
+     */
+    public RedPayClient getClient(RedPayConfig config) {
+        String fingerprint = fingerprint(config);
+        Entry current = clients.get(config);
+        if (current != null && current.fingerprint.equals(fingerprint)) {
+            return current.client;
+        }
+
+        Entry created = new Entry(new RedPayClient(config), fingerprint);
+        while (true) {
+            if (current == null) {
+                current = clients.putIfAbsent(config, created);
+                if (current == null) {
+                    return created.client;
+                }
+            } else if (current.fingerprint.equals(fingerprint)) {
+                created.client.close();
+                return current.client;
+            } else if (clients.replace(config, current, created)) {
+                // La configuración cambió en el lugar: se libera el cliente anterior
+                current.client.close();
+                return created.client;
+            } else {
+                current = clients.get(config);
+            }
+        }
+    }
+
+    /**
+     * Cierra y elimina del registro el cliente asociado a la configuración
+     * indicada, liberando sus conexiones.
+     *
+     * @param config La configuración de RedPay.
+     */
+    public void close(RedPayConfig config) {
+        Entry entry = clients.remove(config);
+        if (entry != null) {
+            entry.client.close();
+        }
+    }
+
+    /**
+     * Resume los valores de la configuración que el cliente fija al crearse.
+     * El entorno y los secretos se leen en cada solicitud, por lo que no se
+     * incluyen.
+     *
+     * @param config La configuración de RedPay.
+     * @return Una cadena que cambia si cambia alguno de esos valores.
+     */
+    private static String fingerprint(RedPayConfig config) {
+        return config.getCertificate() + "|" + config.getTransport() + "|" + config.getExecution_mode();
+    }
+
+    /**
+     * Cliente registrado y la configuración con la que se creó.
+     */
+    private static final class Entry {
+
+        final RedPayClient client;
+
+        final String fingerprint;
+
+        Entry(RedPayClient client, String fingerprint) {
+            this.client = client;
+            this.fingerprint = fingerprint;
+        }
+    }
+}
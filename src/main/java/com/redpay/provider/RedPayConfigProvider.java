@@ -13,8 +13,13 @@ import lombok.ToString;
 @ToString
 public class RedPayConfigProvider {
 
-    private static RedPayConfigProvider instance;
-    private RedPayConfig config;
+    private static final RedPayConfigProvider instance = new RedPayConfigProvider();
+
+    /**
+     * Configuración global. Es volátil para que su lectura no requiera
+     * sincronización.
+     */
+    private volatile RedPayConfig config;
 
     private RedPayConfigProvider() {
     }
@@ -24,10 +29,7 @@ public class RedPayConfigProvider {
      *
      * @return La instancia de RedPayConfigProvider.
      */
-    public static synchronized RedPayConfigProvider getInstance() {
-        if (instance == null) {
-            instance = new RedPayConfigProvider();
-        }
+    public static RedPayConfigProvider getInstance() {
         return instance;
     }
 
@@ -0,0 +1,103 @@
+package com.redpay.provider;
+
+import java.util.Date;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.redpay.config.RevocationIndex;
+
+/**
+ * Registro de suscriptores a las revocaciones de tokens.
+ * <p>
+ * Los servicios de RedPay publican el token_uuid de cada token revocado
+ * exitosamente, de modo que los componentes que guardan información de las
+ * órdenes en memoria (por ejemplo, la caché de órdenes de
+ * {@link com.redpay.services.RedPayAuthorizationManager}) puedan invalidarla.
+ * </p>
+ * <p>
+ * Además mantiene un {@link RevocationIndex} con los tokens revocados por esta
+ * aplicación, que permite rechazar los webhooks de esos tokens sin consultar
+ * la orden.
+ * </p>
+ */
+public class RedPayRevocationNotifier {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RedPayRevocationNotifier.class);
+
+    private static final RedPayRevocationNotifier instance = new RedPayRevocationNotifier();
+
+    /**
+     * Número máximo de revocaciones guardadas en el índice.
+     */
+    private static final int INDEX_CAPACITY = 100_000;
+
+    private final Set<Consumer<String>> listeners = new CopyOnWriteArraySet<>();
+
+    private final RevocationIndex index = new RevocationIndex(INDEX_CAPACITY);
+
+    private RedPayRevocationNotifier() {
+    }
+
+    /**
+     * Obtiene la instancia única del registro.
+     *
+     * @return La instancia de RedPayRevocationNotifier.
+     */
+    public static RedPayRevocationNotifier getInstance() {
+        return instance;
+    }
+
+    /**
+     * Suscribe un componente a las revocaciones de tokens.
+     *
+     * @param listener Función que recibe el token_uuid de cada token revocado.
+     */
+    public void addListener(Consumer<String> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Cancela la suscripción de un componente.
+     *
+     * @param listener Función registrada con {@link #addListener(Consumer)}.
+     */
+    public void removeListener(Consumer<String> listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Obtiene el índice de los tokens revocados.
+     *
+     * @return El índice de revocaciones.
+     */
+    public RevocationIndex getIndex() {
+        return index;
+    }
+
+    /**
+     * Registra la revocación de un token en el índice y la informa a todos
+     * los suscriptores. Los errores de un suscriptor se registran y no afectan
+     * a los demás.
+     *
+     * @param tokenUuid El UUID del token revocado.
+     * @param revokedAt Fecha de revocación informada por RedPay, o null si no
+     * se conoce.
+     */
+    public void publish(String tokenUuid, Date revokedAt) {
+        if (tokenUuid == null) {
+            return;
+        }
+        index.add(tokenUuid, revokedAt);
+        for (Consumer<String> listener : listeners) {
+            try {
+                listener.accept(tokenUuid);
+            } catch (RuntimeException e) {
+                LOGGER.error("Error al notificar la revocación del token {}", tokenUuid, e);
+            }
+        }
+    }
+}
@@ -7,6 +7,7 @@ import com.redpay.enums.AuthorizationMode;
 import com.redpay.enums.TokenType;
 import com.redpay.models.AuthorizationData;
 import com.redpay.models.SignedAuthorizationAccount;
+import com.redpay.models.SignedAuthorizationAccountFactory;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -66,8 +67,9 @@ public class AuthorizeRequest {
     /**
      * Genera dinámicamente los datos de la operación de autorización.
      * <p>
-     * Se instancia un objeto {@link SignedAuthorizationAccount} configurado en
-     * modo {@link AuthorizationMode#Authorize}. Dependiendo del tipo de token,
+     * Se obtiene un objeto {@link SignedAuthorizationAccount} firmado en modo
+     * {@link AuthorizationMode#Authorize} desde
+     * {@link SignedAuthorizationAccountFactory}. Dependiendo del tipo de token,
      * se asigna el monto a {@code amount} o a {@code max_amount} en el objeto
      * {@link AuthorizationData}.
      * </p>
@@ -78,8 +80,7 @@ public class AuthorizeRequest {
      */
     @JsonProperty(value = "data", access = Access.READ_ONLY)
     public AuthorizationData getData() throws Exception {
-        SignedAuthorizationAccount filler = new SignedAuthorizationAccount();
-        filler.setAuthorization(AuthorizationMode.Authorize);
+        SignedAuthorizationAccount filler = SignedAuthorizationAccountFactory.getInstance().create(AuthorizationMode.Authorize);
 
         AuthorizationData authorizationData = new AuthorizationData();
         authorizationData.setSignedAuthorizationAccount(filler);
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.redpay.enums.AuthorizationMode;
 import com.redpay.models.RedPayConfig;
 import com.redpay.models.SignedAuthorizationAccount;
+import com.redpay.models.SignedAuthorizationAccountFactory;
 import com.redpay.provider.RedPayConfigProvider;
 
 import lombok.AllArgsConstructor;
@@ -65,9 +66,7 @@ public class ChargebackRequest {
         if (config.getSecrets() == null || config.getSecrets().getChargeback() == null) {
             return null;
         }
-        SignedAuthorizationAccount filler = new SignedAuthorizationAccount();
-        filler.setAuthorization(AuthorizationMode.Chargeback);
-        return filler;
+        return SignedAuthorizationAccountFactory.getInstance().create(AuthorizationMode.Chargeback);
     }
 
     /**
@@ -90,8 +89,6 @@ public class ChargebackRequest {
         if (config.getSecrets() == null || config.getSecrets().getChargeback_automatic() == null) {
             return null;
         }
-        SignedAuthorizationAccount filler = new SignedAuthorizationAccount();
-        filler.setAuthorization(AuthorizationMode.Chargeback_Automatic);
-        return filler;
+        return SignedAuthorizationAccountFactory.getInstance().create(AuthorizationMode.Chargeback_Automatic);
     }
 }
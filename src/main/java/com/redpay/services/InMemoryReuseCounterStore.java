@@ -0,0 +1,138 @@
+package com.redpay.services;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.redpay.interfaces.ReuseCounterStore;
+
+/**
+ * Implementación en memoria de {@link ReuseCounterStore}.
+ * <p>
+ * Cada token tiene un contador atómico que se incrementa con una operación
+ * compare-and-set solo si no alcanzó el límite, sin bloqueos ni consultas a
+ * la base de datos. Los contadores se pierden al reiniciar la aplicación y no
+ * se comparten entre instancias.
+ * </p>
+ * <p>
+ * Los contadores que no se usan durante el tiempo de inactividad configurado
+ * se eliminan en un barrido periódico, realizado durante
+ * {@link #tryIncrement(String, int)}, para que la memoria no crezca con cada
+ * orden atendida. El tiempo de inactividad debe superar la vigencia de las
+ * órdenes: el contador de un token eliminado vuelve a comenzar en cero.
+ * </p>
+ */
+public class InMemoryReuseCounterStore implements ReuseCounterStore {
+
+    /**
+     * Tiempo de inactividad por defecto tras el cual se elimina un contador,
+     * en milisegundos (24 horas).
+     */
+    public static final long DEFAULT_IDLE_TTL_MS = TimeUnit.HOURS.toMillis(24);
+
+    private final ConcurrentHashMap<String, Counter> counters = new ConcurrentHashMap<>();
+
+    private final long idleTtlNanos;
+
+    /**
+     * Instante (System.nanoTime) a partir del cual corresponde el próximo
+     * barrido de contadores inactivos.
+     */
+    private final AtomicLong nextSweep;
+
+    public InMemoryReuseCounterStore() {
+        this(DEFAULT_IDLE_TTL_MS);
+    }
+
+    /**
+     * Crea el almacenamiento con un tiempo de inactividad propio.
+     *
+     * @param idleTtlMillis Tiempo, en milisegundos, tras el cual se elimina un
+     * contador que no se ha usado.
+     */
+    public InMemoryReuseCounterStore(long idleTtlMillis) {
+        this.idleTtlNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1L, idleTtlMillis));
+        this.nextSweep = new AtomicLong(System.nanoTime() + idleTtlNanos);
+    }
+
+    @Override
+    public boolean tryIncrement(String tokenUuid, int limit) {
+        long now = System.nanoTime();
+        sweepIfDue(now);
+        Counter counter = counters.compute(tokenUuid, (key, existing) -> {
+            Counter touched = existing != null ? existing : new Counter();
+            touched.lastUsed = now;
+            return touched;
+        });
+        int current;
+        do {
+            current = counter.value.get();
+            if (current >= limit) {
+                return false;
+            }
+        } while (!counter.value.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    @Override
+    public void decrement(String tokenUuid) {
+        Counter counter = counters.get(tokenUuid);
+        if (counter != null) {
+            counter.value.updateAndGet(value -> Math.max(0, value - 1));
+        }
+    }
+
+    @Override
+    public int getCount(String tokenUuid) {
+        Counter counter = counters.get(tokenUuid);
+        return counter != null ? counter.value.get() : 0;
+    }
+
+    /**
+     * Elimina el contador de un token, por ejemplo cuando la orden expira o se
+     * revoca.
+     *
+     * @param tokenUuid El UUID del token de la orden.
+     */
+    public void remove(String tokenUuid) {
+        counters.remove(tokenUuid);
+    }
+
+    /**
+     * Obtiene el número de contadores guardados.
+     *
+     * @return El número de tokens con contador.
+     */
+    public int size() {
+        return counters.size();
+    }
+
+    /**
+     * Elimina los contadores inactivos si ya corresponde un barrido. Solo el
+     * hilo que adelanta el próximo barrido lo realiza.
+     *
+     * @param now Instante actual (System.nanoTime).
+     */
+    private void sweepIfDue(long now) {
+        long due = nextSweep.get();
+        if (now - due < 0 || !nextSweep.compareAndSet(due, now + idleTtlNanos)) {
+            return;
+        }
+        for (String tokenUuid : counters.keySet()) {
+            // La eliminación es atómica con el uso del contador en tryIncrement
+            counters.computeIfPresent(tokenUuid,
+                    (key, counter) -> now - counter.lastUsed >= idleTtlNanos ? null : counter);
+        }
+    }
+
+    /**
+     * Contador de reutilizaciones de un token y su último uso.
+     */
+    private static final class Counter {
+
+        final AtomicInteger value = new AtomicInteger();
+
+        volatile long lastUsed;
+    }
+}
@@ -0,0 +1,336 @@
+package com.redpay.services;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.redpay.config.RedPayJsonCodec;
+import com.redpay.enums.Enroller;
+import com.redpay.enums.PathUrl;
+import com.redpay.models.RedPayClient;
+import com.redpay.models.RedPayConfig;
+import com.redpay.models.TokenBase;
+import com.redpay.models.UserBase;
+import com.redpay.models.ValidateAuthorization;
+import com.redpay.provider.RedPayClientProvider;
+import com.redpay.provider.RedPayConfigProvider;
+import com.redpay.provider.RedPayRevocationNotifier;
+import com.redpay.requests.AuthorizeRequest;
+import com.redpay.requests.ChargebackRequest;
+import com.redpay.requests.RevokeTokenRequest;
+import com.redpay.requests.ValidateTokenRequest;
+import com.redpay.responses.AuthorizeResponse;
+import com.redpay.responses.ChargebackResponse;
+import com.redpay.responses.GenerateTokenResponse;
+import com.redpay.responses.GenerateUserResponse;
+import com.redpay.responses.RevokeTokenResponse;
+import com.redpay.responses.ValidateAuthorizationResponse;
+import com.redpay.responses.ValidateTokenResponse;
+
+import lombok.ToString;
+
+/**
+ * Versión asíncrona y no bloqueante de {@link RedPayService}.
+ * <p>
+ * Expone las mismas operaciones que {@link RedPayService}, pero cada una
+ * retorna un {@link CompletableFuture} que se completa cuando RedPay responde,
+ * sin mantener bloqueado el hilo que realiza la llamada. La firma de las
+ * solicitudes y la validación de la firma de las respuestas son idénticas a
+ * las del flujo síncrono.
+ * </p>
+ * <p>
+ * Las operaciones disponibles dependen del tipo de enrolador configurado en
+ * {@link RedPayConfig}: si una operación no está disponible, el futuro se
+ * completa excepcionalmente con {@link UnsupportedOperationException}.
+ * </p>
+ */
+@ToString
+public class RedPayAsyncService {
+
+    /**
+     * Tipo de enrolador configurado.
+     */
+    private final Enroller type;
+
+    /**
+     * Cliente HTTP utilizado para comunicarse con los servicios de RedPay.
+     */
+    @ToString.Exclude
+    private final RedPayClient client;
+
+    /**
+     * Constructor de la clase {@code RedPayAsyncService}.
+     * Utiliza el cliente compartido de la configuración global.
+     */
+    public RedPayAsyncService() {
+        this(null);
+    }
+
+    /**
+     * Constructor que permite especificar una instancia de {@link RedPayClient}.
+     *
+     * @param client Instancia de {@link RedPayClient} a utilizar. Si es nulo,
+     * se utiliza la instancia compartida de {@link RedPayClientProvider}.
+     */
+    public RedPayAsyncService(RedPayClient client) {
+        RedPayConfig config = RedPayConfigProvider.getInstance().getConfig();
+        this.type = config.getType();
+        this.client = (client != null) ? client : RedPayClientProvider.getInstance().getClient(config);
+    }
+
+    /**
+     * Verifica si el enrolador configurado puede operar como COLLECTOR.
+     *
+     * @return {@code true} si el enrolador es COLLECTOR o DUAL.
+     */
+    private boolean isER() {
+        return type == Enroller.COLLECTOR || type == Enroller.DUAL;
+    }
+
+    /**
+     * Verifica si el enrolador configurado puede operar como PAYER.
+     *
+     * @return {@code true} si el enrolador es PAYER o DUAL.
+     */
+    private boolean isEP() {
+        return type == Enroller.PAYER || type == Enroller.DUAL;
+    }
+
+    /**
+     * Genera un token de forma asíncrona.
+     * <p>
+     * Este método está disponible solo para servicios de tipo COLLECTOR.
+     * </p>
+     *
+     * @param tokenInstance Instancia del token a generar.
+     * @param <T>           Tipo que extiende {@link TokenBase}.
+     * @return Un futuro con la respuesta que representa el token generado.
+     * @see RedPayService#generateToken(TokenBase)
+     */
+    public <T extends TokenBase> CompletableFuture<GenerateTokenResponse> generateToken(T tokenInstance) {
+        if (!isER()) {
+            return unsupported("generateToken");
+        }
+        return post(PathUrl.Generate, tokenInstance, GenerateTokenResponse.class);
+    }
+
+    /**
+     * Revoca un token de forma asíncrona.
+     * <p>
+     * Este método está disponible solo para servicios de tipo COLLECTOR. Si la
+     * revocación es exitosa, se informa a {@link RedPayRevocationNotifier}.
+     * </p>
+     *
+     * @param revokeTokenRequest Argumentos necesarios para revocar el token.
+     * @return Un futuro con la respuesta que representa el resultado de la revocación.
+     * @see RedPayService#revokeToken(RevokeTokenRequest)
+     */
+    public CompletableFuture<RevokeTokenResponse> revokeToken(RevokeTokenRequest revokeTokenRequest) {
+        if (!isER()) {
+            return unsupported("revokeToken");
+        }
+        return post(PathUrl.Revoke, revokeTokenRequest, RevokeTokenResponse.class).thenApply(response -> {
+            RedPayRevocationNotifier.getInstance().publish(revokeTokenRequest.getToken_uuid(), response.getRevoked_at());
+            return response;
+        });
+    }
+
+    /**
+     * Realiza una devolución (chargeback) de forma asíncrona.
+     * <p>
+     * Este método está disponible solo para servicios de tipo COLLECTOR.
+     * </p>
+     *
+     * @param chargebackRequest Argumentos necesarios para realizar la devolución.
+     * @return Un futuro con la respuesta que representa el resultado del chargeback.
+     * @see RedPayService#generateChargeback(ChargebackRequest)
+     */
+    public CompletableFuture<ChargebackResponse> generateChargeback(ChargebackRequest chargebackRequest) {
+        if (!isER()) {
+            return unsupported("chargeback");
+        }
+        return post(PathUrl.Chargeback, chargebackRequest, ChargebackResponse.class);
+    }
+
+    /**
+     * Autoriza un token de forma asíncrona.
+     * <p>
+     * Este método está disponible solo para servicios de tipo PAYER.
+     * </p>
+     *
+     * @param authorizeRequest Argumentos necesarios para autorizar el token.
+     * @return Un futuro con la respuesta que representa el resultado de la autorización.
+     * @see RedPayService#authorizeToken(AuthorizeRequest)
+     */
+    public CompletableFuture<AuthorizeResponse> authorizeToken(AuthorizeRequest authorizeRequest) {
+        if (!isEP()) {
+            return unsupported("authorizeToken");
+        }
+        return post(PathUrl.Authorize, authorizeRequest, AuthorizeResponse.class);
+    }
+
+    /**
+     * Valida un token de forma asíncrona.
+     *
+     * @param validateTokenRequest Argumentos necesarios para validar el token.
+     * @return Un futuro con la respuesta que representa el resultado de la validación del token.
+     * @see RedPayService#validateToken(ValidateTokenRequest)
+     */
+    public CompletableFuture<ValidateTokenResponse> validateToken(ValidateTokenRequest validateTokenRequest) {
+        return post(PathUrl.ValidateToken, validateTokenRequest, ValidateTokenResponse.class);
+    }
+
+    /**
+     * Valida una autorización de forma asíncrona.
+     *
+     * @param validateAuthorization Argumentos necesarios para validar la autorización.
+     * @param <T>                   Tipo que extiende {@link ValidateAuthorization}.
+     * @return Un futuro con la respuesta que representa el resultado de la validación.
+     * @see RedPayService#validateAuthorization(ValidateAuthorization)
+     */
+    public <T extends ValidateAuthorization> CompletableFuture<ValidateAuthorizationResponse> validateAuthorization(T validateAuthorization) {
+        return post(PathUrl.ValidateAuthorization, validateAuthorization, ValidateAuthorizationResponse.class);
+    }
+
+    /**
+     * Crea un usuario de forma asíncrona.
+     *
+     * @param userInstance Instancia del usuario a crear.
+     * @param <T>          Tipo que extiende {@link UserBase}.
+     * @return Un futuro con la respuesta que representa el usuario creado.
+     * @see RedPayService#createUser(UserBase)
+     */
+    public <T extends UserBase> CompletableFuture<GenerateUserResponse> createUser(T userInstance) {
+        return post(PathUrl.User, userInstance, GenerateUserResponse.class);
+    }
+
+    /**
+     * Actualiza un usuario de forma asíncrona.
+     *
+     * @param userInstance Instancia del usuario a actualizar.
+     * @param <T>          Tipo que extiende {@link UserBase}.
+     * @return Un futuro con la respuesta que representa el resultado de la actualización.
+     * @see RedPayService#updateUser(UserBase)
+     */
+    public <T extends UserBase> CompletableFuture<GenerateUserResponse> updateUser(T userInstance) {
+        return put(PathUrl.User, userInstance, GenerateUserResponse.class);
+    }
+
+    /**
+     * Actualiza parcialmente un usuario de forma asíncrona.
+     * <p>
+     * Obtiene el usuario actual y actualiza únicamente los campos no nulos del
+     * nuevo objeto.
+     * </p>
+     *
+     * @param userInstance Instancia del usuario a actualizar parcialmente.
+     * @param <T>          Tipo que extiende {@link UserBase}.
+     * @return Un futuro con la respuesta que representa el resultado de la actualización parcial.
+     * @see RedPayService#updateUserPartial(UserBase)
+     */
+    public <T extends UserBase> CompletableFuture<GenerateUserResponse> updateUserPartial(T userInstance) {
+        return getUserOrFail(userInstance).thenCompose(currentResponse -> {
+            ObjectNode currentUser = RedPayJsonCodec.toTree(currentResponse.getUser());
+            RedPayJsonCodec.toTree(userInstance).fields().forEachRemaining(entry -> {
+                if (!entry.getValue().isNull()) {
+                    currentUser.set(entry.getKey(), entry.getValue());
+                }
+            });
+            return put(PathUrl.User, currentUser, GenerateUserResponse.class);
+        });
+    }
+
+    /**
+     * Obtiene un usuario de forma asíncrona.
+     *
+     * @param userInstance Instancia del usuario a obtener.
+     * @param <T>          Tipo que extiende {@link UserBase}.
+     * @return Un futuro con la respuesta que representa el usuario obtenido.
+     * @see RedPayService#getUser(UserBase)
+     */
+    public <T extends UserBase> CompletableFuture<GenerateUserResponse> getUser(T userInstance) {
+        return send(() -> client.getAsync(PathUrl.UserVerify.getPath(), toUserParams(userInstance),
+                GenerateUserResponse.class));
+    }
+
+    /**
+     * Obtiene un usuario de forma asíncrona o falla si no existe.
+     *
+     * @param userInstance Instancia del usuario a obtener.
+     * @param <T>          Tipo que extiende {@link UserBase}.
+     * @return Un futuro con la respuesta que representa el usuario obtenido.
+     * @see RedPayService#getUserOrFail(UserBase)
+     */
+    public <T extends UserBase> CompletableFuture<GenerateUserResponse> getUserOrFail(T userInstance) {
+        return send(() -> client.getOrFailAsync(PathUrl.UserVerify.getPath(), toUserParams(userInstance),
+                GenerateUserResponse.class));
+    }
+
+    /**
+     * Realiza una petición POST asíncrona con el objeto de solicitud y deserializa
+     * la respuesta en el tipo indicado.
+     *
+     * @param path Endpoint de RedPay.
+     * @param body Objeto de solicitud a enviar.
+     * @param type Tipo de la respuesta.
+     * @param <R>  Tipo de la respuesta.
+     * @return Un futuro con la respuesta deserializada.
+     */
+    private <R> CompletableFuture<R> post(PathUrl path, Object body, Class<R> type) {
+        return send(() -> client.postAsync(path.getPath(), body, type));
+    }
+
+    /**
+     * Realiza una petición PUT asíncrona con el objeto de solicitud y deserializa
+     * la respuesta en el tipo indicado.
+     *
+     * @param path Endpoint de RedPay.
+     * @param body Objeto de solicitud a enviar.
+     * @param type Tipo de la respuesta.
+     * @param <R>  Tipo de la respuesta.
+     * @return Un futuro con la respuesta deserializada.
+     */
+    private <R> CompletableFuture<R> put(PathUrl path, Object body, Class<R> type) {
+        return send(() -> client.putAsync(path.getPath(), body, type));
+    }
+
+    /**
+     * Inicia una petición asíncrona y entrega como futuro fallido cualquier
+     * error producido al prepararla, de modo que todas las operaciones
+     * informan sus errores únicamente a través del futuro.
+     *
+     * @param request Petición a iniciar.
+     * @param <R>     Tipo de la respuesta.
+     * @return El futuro de la petición, o uno fallido si no pudo iniciarse.
+     */
+    private static <R> CompletableFuture<R> send(Supplier<CompletableFuture<R>> request) {
+        try {
+            return request.get();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Obtiene los parámetros de consulta para la verificación de un usuario.
+     *
+     * @param userInstance Instancia del usuario.
+     * @return Árbol JSON con los campos "enroller_user_id" y "user_type".
+     */
+    private ObjectNode toUserParams(UserBase userInstance) {
+        return RedPayJsonCodec.toTree(userInstance).retain("enroller_user_id", "user_type");
+    }
+
+    /**
+     * Crea un futuro fallido para una operación no disponible en el tipo de
+     * enrolador configurado.
+     *
+     * @param method Nombre de la operación.
+     * @param <R>    Tipo de la respuesta.
+     * @return Un futuro completado con {@link UnsupportedOperationException}.
+     */
+    private static <R> CompletableFuture<R> unsupported(String method) {
+        return CompletableFuture.failedFuture(new UnsupportedOperationException(
+                "El método " + method + " no está disponible para este tipo de servicio."));
+    }
+}
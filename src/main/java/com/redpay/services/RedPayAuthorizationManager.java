@@ -1,26 +1,61 @@
 package com.redpay.services;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
-import java.util.concurrent.Executors;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.redpay.config.ConstantsRedPay;
-import com.redpay.config.CustomThreadFactory;
+import com.redpay.config.ExpiringCache;
+import com.redpay.config.KeyedSerialExecutor;
+import com.redpay.config.RedPayExecutors;
+import com.redpay.config.RedPayJsonCodec;
+import com.redpay.enums.WebhookOverflowPolicy;
 import com.redpay.exceptions.ApiError;
 import com.redpay.exceptions.ImplementationError;
 import com.redpay.exceptions.InvalidSignatureError;
 import com.redpay.exceptions.OrderIsRevokedError;
 import com.redpay.exceptions.OrderReuseLimitError;
+import com.redpay.exceptions.WebhookInProgressError;
+import com.redpay.exceptions.WebhookQueueFullError;
+import com.redpay.interfaces.ReuseCounterStore;
+import com.redpay.models.AuthorizationBatchStats;
+import com.redpay.models.AuthorizationManagerConfig;
 import com.redpay.models.AuthorizeOrder;
 import com.redpay.models.Order;
 import com.redpay.models.RedPayConfig;
 import com.redpay.models.WebhookPreAuthorization;
 import com.redpay.provider.RedPayConfigProvider;
+import com.redpay.provider.RedPayRevocationNotifier;
 import com.redpay.requests.ValidateAuthorizationCollectorRequest;
 import com.redpay.responses.ValidateAuthorizationResponse;
 
@@ -30,17 +65,140 @@ import com.redpay.responses.ValidateAuthorizationResponse;
  * Valida la firma del webhook, recupera la orden asociada al token, verifica el
  * estado de la orden (revocada o límite de reutilización) y procesa los eventos
  * de autorización. La clase también programa el procesamiento periódico de
- * órdenes de autorización pendientes.
+ * órdenes de autorización pendientes, validándolas en paralelo hasta el límite
+ * indicado en {@link AuthorizationManagerConfig}.
+ * </p>
+ * <p>
+ * Los webhooks pueden procesarse en el hilo que los recibe
+ * ({@link #processWebhookPreAuthorize(WebhookPreAuthorization)}) o encolarse
+ * tras validar su firma para ser procesados por un conjunto de hilos propio
+ * ({@link #submitWebhookPreAuthorize(WebhookPreAuthorization)}). En ese caso
+ * los webhooks de un mismo token_uuid se procesan en orden de llegada y los de
+ * tokens distintos en paralelo.
  * </p>
  */
 public abstract class RedPayAuthorizationManager {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(RedPayAuthorizationManager.class);
 
-    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(new CustomThreadFactory("RedPayAuthScheduler"));
+    /**
+     * Lector de los webhooks recibidos como cuerpo HTTP, que ignora las
+     * propiedades desconocidas.
+     */
+    private static final ObjectReader WEBHOOK_READER = RedPayJsonCodec.reader(WebhookPreAuthorization.class)
+            .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    /**
+     * Planificador del procesamiento periódico, con el tipo de hilos indicado
+     * en la configuración.
+     */
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Ejecutor de las validaciones de órdenes pendientes cuando se procesan en
+     * paralelo.
+     */
+    private final ExecutorService workers;
+
+    /**
+     * Configuración del procesamiento de autorizaciones.
+     */
+    private final AuthorizationManagerConfig managerConfig;
+
+    /**
+     * Identificadores de las autorizaciones con un reintento programado, que
+     * se omiten en los lotes siguientes hasta que el reintento termine.
+     */
+    private final Set<String> retrying = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Cupos de validación compartidos por los lotes y los reintentos, de modo
+     * que nunca se validan en paralelo más de
+     * {@link AuthorizationManagerConfig#getMax_concurrency()} órdenes.
+     */
+    private final Semaphore validationPermits;
+
+    /**
+     * Reintentos cuyo plazo ya se cumplió y que esperan un cupo de validación.
+     */
+    private final Queue<Runnable> dueRetries = new ConcurrentLinkedQueue<>();
 
     private ScheduledFuture<?> intervalFuture;
     private volatile boolean isProcessing = false;
+
+    /**
+     * Protege el inicio y la detención del procesamiento periódico.
+     */
+    private final ReentrantLock lifecycleLock = new ReentrantLock();
+
+    /**
+     * Indica que se registró una orden nueva durante el ciclo en curso, por lo
+     * que el procesamiento no debe detenerse aunque no haya órdenes pendientes.
+     */
+    private volatile boolean wakeUpRequested = false;
+
+    /**
+     * Calendario de revisión de cada orden pendiente, por authorization_uuid.
+     */
+    private final Map<String, PollState> pollStates = new ConcurrentHashMap<>();
+
+    /**
+     * Índice de autorizaciones informadas por webhook, por authorization_uuid.
+     */
+    private final Map<String, WebhookResolution> webhookResolutions = new ConcurrentHashMap<>();
+
+    /**
+     * Cupos de la cola de webhooks: cada webhook aceptado ocupa un cupo hasta
+     * terminar de procesarse.
+     */
+    private final Semaphore webhookPermits;
+
+    /**
+     * Ejecutor de los hilos que procesan los webhooks encolados, creado con el
+     * primer webhook encolado.
+     */
+    private volatile ExecutorService webhookWorkers;
+
+    /**
+     * Ejecutor que ordena los webhooks encolados por token_uuid.
+     */
+    private volatile KeyedSerialExecutor<String> webhookExecutor;
+
+    /**
+     * Webhooks procesados sin error recientemente, para descartar sus
+     * reenvíos. Es null si el descarte de repetidos no está habilitado.
+     */
+    private final ExpiringCache<String, Boolean> acceptedWebhooks;
+
+    /**
+     * Claves de descarte de los webhooks que se están procesando o esperan en
+     * la cola. Un webhook solo se registra en {@link #acceptedWebhooks} cuando
+     * su procesamiento termina sin error.
+     */
+    private final Set<String> inFlightWebhooks = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Número de webhooks descartados por repetidos.
+     */
+    private final LongAdder duplicateWebhooks = new LongAdder();
+
+    /**
+     * Órdenes obtenidas con {@link #getOrder(String)}, por token_uuid. Es null
+     * si la caché de órdenes no está habilitada.
+     */
+    private final ExpiringCache<String, Order> orderCache;
+
+    /**
+     * Número de invalidaciones de la caché de órdenes, para no guardar una
+     * orden leída antes de una revocación concurrente.
+     */
+    private final AtomicLong orderInvalidations = new AtomicLong();
+
+    /**
+     * Suscripción a las revocaciones de tokens, o null si la caché de órdenes
+     * no está habilitada.
+     */
+    private final Consumer<String> revocationListener;
     protected final RedPayService redPayService;
     /**
      * Configuración de RedPay obtenida a través de un proveedor de
@@ -53,37 +211,621 @@ public abstract class RedPayAuthorizationManager {
      */
     private final RedPayIntegrityService integrityService;
 
+    /**
+     * Almacenamiento de los contadores de reutilización de las órdenes, o null
+     * si se utiliza {@link #countAuthorizationByOrder(String)}.
+     */
+    private final ReuseCounterStore reuseCounterStore;
+
     public RedPayAuthorizationManager() {
+        this(new AuthorizationManagerConfig());
+    }
+
+    /**
+     * Constructor que permite ajustar el procesamiento de autorizaciones.
+     *
+     * @param managerConfig Configuración del procesamiento de autorizaciones.
+     * Si es nula, se utilizan los valores por defecto.
+     */
+    public RedPayAuthorizationManager(AuthorizationManagerConfig managerConfig) {
+        this(managerConfig, null);
+    }
+
+    /**
+     * Constructor que permite ajustar el procesamiento de autorizaciones y
+     * controlar la reutilización de las órdenes con un almacenamiento de
+     * contadores.
+     *
+     * @param managerConfig Configuración del procesamiento de autorizaciones.
+     * Si es nula, se utilizan los valores por defecto.
+     * @param reuseCounterStore Almacenamiento de los contadores de
+     * reutilización (por ejemplo, {@link InMemoryReuseCounterStore}). Si es
+     * nulo, se utiliza {@link #countAuthorizationByOrder(String)}.
+     */
+    public RedPayAuthorizationManager(AuthorizationManagerConfig managerConfig, ReuseCounterStore reuseCounterStore) {
+        this.reuseCounterStore = reuseCounterStore;
         this.config = RedPayConfigProvider.getInstance().getConfig();
+        this.managerConfig = managerConfig != null ? managerConfig : new AuthorizationManagerConfig();
         this.redPayService = new RedPayService();
         this.integrityService = new RedPayIntegrityService();
+        this.scheduler = RedPayExecutors.newScheduler("RedPayAuthScheduler", config.getExecution_mode());
+        this.workers = RedPayExecutors.newExecutor("RedPayAuthWorker", config.getExecution_mode());
+        this.validationPermits = new Semaphore(Math.max(1, this.managerConfig.getMax_concurrency()));
+        this.webhookPermits = new Semaphore(Math.max(1, this.managerConfig.getWebhook_queue_capacity()));
+        this.acceptedWebhooks = this.managerConfig.isWebhook_dedup_enabled()
+                ? new ExpiringCache<>(this.managerConfig.getWebhook_dedup_max_entries(),
+                        this.managerConfig.getWebhook_dedup_ttl_ms())
+                : null;
+        if (this.managerConfig.isOrder_cache_enabled()) {
+            this.orderCache = new ExpiringCache<>(this.managerConfig.getOrder_cache_max_entries(),
+                    this.managerConfig.getOrder_cache_ttl_ms());
+            this.revocationListener = this::invalidateOrder;
+            RedPayRevocationNotifier.getInstance().addListener(revocationListener);
+        } else {
+            this.orderCache = null;
+            this.revocationListener = null;
+        }
     }
 
     /**
      * Procesa un webhook de pre-autorización siguiendo un flujo predefinido:
      * <ol>
+     * <li>Si el descarte de repetidos está habilitado y el webhook ya fue
+     * procesado sin error, lo descarta.</li>
      * <li>Valida la firma del webhook.</li>
-     * <li>Recupera la orden asociada al token_uuid del webhook.</li>
+     * <li>Si el índice de revocaciones está habilitado y el token fue
+     * revocado, rechaza el webhook.</li>
+     * <li>Si el descarte de repetidos está habilitado y el mismo webhook aún
+     * se está procesando, lo rechaza con {@link WebhookInProgressError} para
+     * que RedPay lo reintente.</li>
+     * <li>Recupera la orden asociada al token_uuid del webhook (desde la caché
+     * de órdenes, si está habilitada).</li>
      * <li>Verifica si el código de estado del webhook es válido.</li>
      * <li>Si es válido, comprueba que la orden no esté revocada, valida su
-     * límite de reutilización y activa el evento de pre-autorización.</li>
+     * límite de reutilización y activa el evento de pre-autorización. Si
+     * el evento termina sin error y la resolución por webhook está
+     * habilitada, registra el código de estado para la autorización del
+     * webhook.</li>
      * <li>De lo contrario, activa un evento informativo.</li>
      * </ol>
      *
      * @param webhook La carga útil del webhook de pre-autorización.
      * @throws Exception Si falla alguna validación o procesamiento.
      */
-    public void processWebhookPreAuthorize(WebhookPreAuthorization webhook) throws Exception {
-        validateSignature(webhook);
-        String tokenUuid = webhook.getToken_uuid();
-        Order order = getOrder(tokenUuid);
-        if (checkStatusCodeFromWebhook(webhook)) {
-            checkIfOrderIsRevoked(order);
-            validateOrderReuse(order);
-            onPreAuthorizeEvent(webhook, order);
-        } else {
-            onInfoEvent(webhook);
+    public void processWebhookPreAuthorize(WebhookPreAuthorization webhook) throws Exception {
+        processWebhook(webhook, false);
+    }
+
+    /**
+     * Procesa un webhook de pre-autorización a partir del cuerpo HTTP recibido,
+     * sin deserializarlo previamente.
+     * <p>
+     * El cuerpo se lee una única vez como árbol JSON y la firma se calcula
+     * sobre ese árbol, tal como fue enviado por RedPay. Solo si la firma es
+     * válida se construye el {@link WebhookPreAuthorization} (a partir del
+     * árbol, sin volver a leer el cuerpo) y se continúa con el flujo de
+     * {@link #processWebhookPreAuthorize(WebhookPreAuthorization)}.
+     * </p>
+     *
+     * @param body El cuerpo del webhook, en JSON.
+     * @throws InvalidSignatureError Si la firma es inválida.
+     * @throws IOException Si el cuerpo no es un JSON válido.
+     * @throws Exception Si falla alguna validación o procesamiento.
+     */
+    public void processWebhookPreAuthorize(byte[] body) throws Exception {
+        processWebhook(readVerifiedWebhook(body, body.length), true);
+    }
+
+    /**
+     * Procesa o encola un webhook recibido en los primeros {@code length}
+     * bytes de un arreglo. Lo utiliza {@link RedPayWebhookReceiver}, que
+     * reutiliza el arreglo tras la llamada: el webhook se construye antes de
+     * retornar, por lo que el arreglo no se retiene.
+     *
+     * @param body Arreglo que contiene el cuerpo del webhook.
+     * @param length Longitud del cuerpo, en bytes.
+     * @param async Indica si el webhook se encola en lugar de procesarse.
+     * @throws Exception Si falla alguna validación o procesamiento.
+     */
+    void dispatchWebhookBody(byte[] body, int length, boolean async) throws Exception {
+        WebhookPreAuthorization webhook = readVerifiedWebhook(body, length);
+        if (async) {
+            submitWebhook(webhook, true);
+        } else {
+            processWebhook(webhook, true);
+        }
+    }
+
+    /**
+     * Flujo de procesamiento de un webhook en el hilo que lo recibió.
+     *
+     * @param webhook La carga útil del webhook de pre-autorización.
+     * @param signatureVerified Indica si la firma ya fue validada.
+     * @throws Exception Si falla alguna validación o procesamiento.
+     */
+    private void processWebhook(WebhookPreAuthorization webhook, boolean signatureVerified) throws Exception {
+        String dedupKey = dedupKey(webhook);
+        if (isDuplicate(webhook, dedupKey)) {
+            return;
+        }
+        if (!signatureVerified) {
+            validateSignature(webhook);
+        }
+        // Solo tras validar la firma, para no revelar qué tokens fueron revocados
+        checkRevocationIndex(webhook);
+        if (!beginInFlight(webhook, dedupKey)) {
+            return;
+        }
+        try {
+            handleVerifiedWebhook(webhook);
+            markAccepted(dedupKey);
+        } finally {
+            endInFlight(dedupKey);
+        }
+    }
+
+    /**
+     * Valida la firma del webhook y lo encola para procesarlo de forma
+     * asíncrona, sin ocupar el hilo que lo recibió con la obtención de la
+     * orden, sus validaciones y los eventos.
+     * <p>
+     * Si el método termina sin error, el webhook fue aceptado y puede
+     * responderse de inmediato. Los webhooks encolados se procesan con el
+     * mismo flujo de {@link #processWebhookPreAuthorize(WebhookPreAuthorization)}
+     * por {@link AuthorizationManagerConfig#getWebhook_workers()} hilos: los
+     * webhooks de un mismo token_uuid, uno a la vez y en orden de llegada, y
+     * los de tokens distintos, en paralelo. Los errores de ese procesamiento
+     * se informan a
+     * {@link #onWebhookProcessingError(WebhookPreAuthorization, Exception)}.
+     * Si la cola está llena se aplica
+     * {@link AuthorizationManagerConfig#getWebhook_overflow_policy()}.
+     * </p>
+     *
+     * @param webhook La carga útil del webhook de pre-autorización.
+     * @throws InvalidSignatureError Si la firma es inválida.
+     * @throws OrderIsRevokedError Si el índice de revocaciones está habilitado
+     * y el token fue revocado.
+     * @throws WebhookQueueFullError Si la cola está llena y el webhook se
+     * rechaza (se recomienda responder con HTTP 503).
+     * @throws WebhookInProgressError Si el descarte de repetidos está
+     * habilitado y el mismo webhook aún está en la cola o en proceso (se
+     * recomienda responder con HTTP 503).
+     * @throws Exception Si falla la validación o el derrame del webhook.
+     */
+    public void submitWebhookPreAuthorize(WebhookPreAuthorization webhook) throws Exception {
+        submitWebhook(webhook, false);
+    }
+
+    /**
+     * Valida la firma de un webhook a partir del cuerpo HTTP recibido y lo
+     * encola para procesarlo de forma asíncrona.
+     * <p>
+     * El cuerpo se lee y se verifica igual que en
+     * {@link #processWebhookPreAuthorize(byte[])}, y el webhook se encola igual
+     * que en {@link #submitWebhookPreAuthorize(WebhookPreAuthorization)}.
+     * </p>
+     *
+     * @param body El cuerpo del webhook, en JSON.
+     * @throws InvalidSignatureError Si la firma es inválida.
+     * @throws WebhookQueueFullError Si la cola está llena y el webhook se
+     * rechaza.
+     * @throws WebhookInProgressError Si el mismo webhook aún está en la cola o
+     * en proceso.
+     * @throws IOException Si el cuerpo no es un JSON válido.
+     * @throws Exception Si falla la validación o el derrame del webhook.
+     */
+    public void submitWebhookPreAuthorize(byte[] body) throws Exception {
+        submitWebhook(readVerifiedWebhook(body, body.length), true);
+    }
+
+    /**
+     * Validación y encolado de un webhook.
+     *
+     * @param webhook La carga útil del webhook de pre-autorización.
+     * @param signatureVerified Indica si la firma ya fue validada.
+     * @throws Exception Si falla la validación o el derrame del webhook.
+     */
+    private void submitWebhook(WebhookPreAuthorization webhook, boolean signatureVerified) throws Exception {
+        String dedupKey = dedupKey(webhook);
+        if (isDuplicate(webhook, dedupKey)) {
+            return;
+        }
+        if (!signatureVerified) {
+            validateSignature(webhook);
+        }
+        // Solo tras validar la firma, para no revelar qué tokens fueron revocados
+        checkRevocationIndex(webhook);
+        if (!beginInFlight(webhook, dedupKey)) {
+            return;
+        }
+        boolean queued = false;
+        try {
+            queued = enqueueWebhook(webhook, dedupKey);
+        } finally {
+            if (!queued) {
+                // Rechazado o derramado: un reenvío o el reproceso del derrame debe procesarse
+                endInFlight(dedupKey);
+            }
+        }
+    }
+
+    /**
+     * Encola un webhook con firma válida aplicando la política de desborde.
+     *
+     * @param webhook La carga útil del webhook.
+     * @param dedupKey Clave de descarte de repetidos del webhook, o null.
+     * @return true si el webhook se encoló, false si se derramó.
+     * @throws Exception Si el webhook se rechaza o falla su derrame.
+     */
+    private boolean enqueueWebhook(WebhookPreAuthorization webhook, String dedupKey) throws Exception {
+        KeyedSerialExecutor<String> executor = ensureWebhookWorkers();
+
+        WebhookOverflowPolicy policy = managerConfig.getWebhook_overflow_policy();
+        boolean accepted = policy == WebhookOverflowPolicy.BLOCK
+                ? webhookPermits.tryAcquire(managerConfig.getWebhook_block_timeout_ms(), TimeUnit.MILLISECONDS)
+                : webhookPermits.tryAcquire();
+        if (accepted) {
+            try {
+                executor.execute(webhookKey(webhook), () -> {
+                    try {
+                        handleQueuedWebhook(webhook, dedupKey);
+                    } finally {
+                        webhookPermits.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                webhookPermits.release();
+                throw e;
+            }
+            return true;
+        }
+
+        if (policy == WebhookOverflowPolicy.SPILL) {
+            onWebhookSpilled(webhook);
+            return false;
+        }
+        LOGGER.warn("Cola de webhooks llena, se rechaza el webhook del token {}", webhook.getToken_uuid());
+        throw new WebhookQueueFullError();
+    }
+
+    /**
+     * Obtiene el número de webhooks encolados o en proceso.
+     *
+     * @return La cantidad de webhooks en la cola.
+     */
+    public int getWebhookQueueDepth() {
+        KeyedSerialExecutor<String> executor = webhookExecutor;
+        return executor != null ? executor.getPendingTasks() : 0;
+    }
+
+    /**
+     * Obtiene el número de webhooks encolados o en proceso para un token.
+     *
+     * @param tokenUuid El UUID del token.
+     * @return La cantidad de webhooks del token en la cola.
+     */
+    public int getWebhookQueueDepth(String tokenUuid) {
+        KeyedSerialExecutor<String> executor = webhookExecutor;
+        return executor != null ? executor.getQueueDepth(tokenUuid) : 0;
+    }
+
+    /**
+     * Obtiene una instantánea del número de webhooks encolados o en proceso
+     * por token_uuid, solo para los tokens con webhooks pendientes.
+     *
+     * @return Un mapa de token_uuid a cantidad de webhooks pendientes.
+     */
+    public Map<String, Integer> getWebhookQueueDepths() {
+        KeyedSerialExecutor<String> executor = webhookExecutor;
+        return executor != null ? executor.getQueueDepths() : Map.of();
+    }
+
+    /**
+     * Procesa un webhook cuya firma ya fue validada: recupera la orden,
+     * verifica su estado y activa el evento correspondiente.
+     *
+     * @param webhook La carga útil del webhook de pre-autorización.
+     * @throws Exception Si falla alguna validación o procesamiento.
+     */
+    private void handleVerifiedWebhook(WebhookPreAuthorization webhook) throws Exception {
+        String tokenUuid = webhook.getToken_uuid();
+        Order order = loadOrder(tokenUuid);
+        if (checkStatusCodeFromWebhook(webhook)) {
+            checkIfOrderIsRevoked(order);
+            boolean reserved = validateOrderReuse(order);
+            try {
+                onPreAuthorizeEvent(webhook, order);
+            } catch (Exception e) {
+                if (reserved) {
+                    // La reutilización no se concretó: se libera para un próximo webhook
+                    try {
+                        reuseCounterStore.decrement(order.getToken_uuid());
+                    } catch (Exception decrementError) {
+                        // Se conserva el error original de onPreAuthorizeEvent
+                        LOGGER.error("Error al revertir el contador de reutilización del token {}",
+                                order.getToken_uuid(), decrementError);
+                        e.addSuppressed(decrementError);
+                    }
+                }
+                throw e;
+            }
+            // Solo un webhook exitoso y procesado por completo resuelve la orden pendiente
+            recordWebhookResolution(webhook);
+        } else {
+            onInfoEvent(webhook);
+        }
+    }
+
+    /**
+     * Rechaza los webhooks de pre-autorización exitosos de tokens que figuran
+     * en el índice de revocaciones, sin consultar la orden.
+     *
+     * @param webhook La carga útil del webhook.
+     * @throws OrderIsRevokedError Si el token fue revocado.
+     */
+    private void checkRevocationIndex(WebhookPreAuthorization webhook) {
+        if (!managerConfig.isRevocation_index_enabled() || !checkStatusCodeFromWebhook(webhook)) {
+            return;
+        }
+        Date revokedAt = RedPayRevocationNotifier.getInstance().getIndex().getRevokedAt(webhook.getToken_uuid());
+        if (revokedAt != null) {
+            LOGGER.error("La orden ha sido revocada: {}", revokedAt);
+            throw new OrderIsRevokedError();
+        }
+    }
+
+    /**
+     * Obtiene la orden asociada al token, desde la caché de órdenes si está
+     * habilitada o con {@link #getOrder(String)} en caso contrario.
+     *
+     * @param tokenUuid El UUID del token.
+     * @return La orden.
+     * @throws Exception Si no se puede recuperar la orden.
+     */
+    private Order loadOrder(String tokenUuid) throws Exception {
+        if (orderCache == null) {
+            return getOrder(tokenUuid);
+        }
+        Order cached = orderCache.get(tokenUuid);
+        if (cached != null) {
+            return cached;
+        }
+
+        long invalidations = orderInvalidations.get();
+        Order order = getOrder(tokenUuid);
+        // Si hubo una revocación durante la lectura, la orden podría estar desactualizada
+        if (order != null && orderInvalidations.get() == invalidations) {
+            orderCache.put(tokenUuid, order, orderCacheTtlMillis(order));
+        }
+        return order;
+    }
+
+    /**
+     * Elimina una orden de la caché de órdenes. Se invoca automáticamente al
+     * revocar un token con RedPayService o RedPayAsyncService, y puede
+     * invocarse cuando la orden cambia por otros medios.
+     *
+     * @param tokenUuid El UUID del token de la orden.
+     */
+    public void invalidateOrder(String tokenUuid) {
+        if (orderCache != null) {
+            orderInvalidations.incrementAndGet();
+            orderCache.remove(tokenUuid);
+        }
+    }
+
+    /**
+     * Obtiene la proporción de órdenes obtenidas desde la caché de órdenes.
+     *
+     * @return La tasa de aciertos, entre 0 y 1, o 0 si la caché no está
+     * habilitada.
+     */
+    public double getOrderCacheHitRate() {
+        return orderCache != null ? orderCache.getHitRate() : 0.0;
+    }
+
+    /**
+     * Calcula la clave de descarte de repetidos de un webhook, a partir de su
+     * token_uuid, authorization_uuid, timestamp y firma.
+     *
+     * @param webhook La carga útil del webhook.
+     * @return La clave, o null si el descarte de repetidos no está habilitado.
+     */
+    private String dedupKey(WebhookPreAuthorization webhook) {
+        if (acceptedWebhooks == null) {
+            return null;
+        }
+        String authorizationUuid = webhook.getOperations() != null
+                ? webhook.getOperations().getAuthorization_uuid()
+                : null;
+        return webhook.getToken_uuid() + '|' + authorizationUuid + '|' + webhook.getTimestamp() + '|'
+                + webhook.getSignature();
+    }
+
+    /**
+     * Indica si el webhook ya fue aceptado, en cuyo caso se informa a
+     * {@link #onDuplicateWebhook(WebhookPreAuthorization)}.
+     *
+     * @param webhook La carga útil del webhook.
+     * @param dedupKey Clave de descarte de repetidos del webhook, o null.
+     * @return true si el webhook es un reenvío y debe descartarse.
+     */
+    private boolean isDuplicate(WebhookPreAuthorization webhook, String dedupKey) {
+        if (dedupKey == null || acceptedWebhooks.get(dedupKey) == null) {
+            return false;
+        }
+        duplicateWebhooks.increment();
+        onDuplicateWebhook(webhook);
+        return true;
+    }
+
+    /**
+     * Registra un webhook con firma válida como en proceso.
+     *
+     * @param webhook La carga útil del webhook.
+     * @param dedupKey Clave de descarte de repetidos del webhook, o null.
+     * @return false si otro hilo terminó de procesar el mismo webhook en
+     * paralelo, en cuyo caso debe descartarse.
+     * @throws WebhookInProgressError Si el mismo webhook aún se está
+     * procesando: si ese procesamiento fallara, el reenvío se perdería, por
+     * lo que se pide a RedPay que lo reintente.
+     */
+    private boolean beginInFlight(WebhookPreAuthorization webhook, String dedupKey) {
+        if (dedupKey == null) {
+            return true;
+        }
+        if (!inFlightWebhooks.add(dedupKey)) {
+            LOGGER.warn("El webhook del token {} aún se está procesando, se rechaza su reenvío",
+                    webhook.getToken_uuid());
+            throw new WebhookInProgressError();
+        }
+        if (isDuplicate(webhook, dedupKey)) {
+            inFlightWebhooks.remove(dedupKey);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Registra como aceptado un webhook procesado sin error, para descartar
+     * sus reenvíos.
+     *
+     * @param dedupKey Clave de descarte de repetidos del webhook, o null.
+     */
+    private void markAccepted(String dedupKey) {
+        if (dedupKey != null) {
+            acceptedWebhooks.put(dedupKey, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Quita la marca de proceso de un webhook, tras registrarlo como aceptado
+     * o tras un error, en cuyo caso su reenvío vuelve a procesarse.
+     *
+     * @param dedupKey Clave de descarte de repetidos del webhook, o null.
+     */
+    private void endInFlight(String dedupKey) {
+        if (dedupKey != null) {
+            inFlightWebhooks.remove(dedupKey);
+        }
+    }
+
+    /**
+     * Obtiene la proporción de webhooks recibidos que se encontraron en la
+     * caché de webhooks aceptados.
+     *
+     * @return La tasa de aciertos, entre 0 y 1, o 0 si el descarte de
+     * repetidos no está habilitado.
+     */
+    public double getWebhookDedupHitRate() {
+        return acceptedWebhooks != null ? acceptedWebhooks.getHitRate() : 0.0;
+    }
+
+    /**
+     * Obtiene el número de webhooks descartados por repetidos.
+     *
+     * @return El número de webhooks repetidos.
+     */
+    public long getDuplicateWebhookCount() {
+        return duplicateWebhooks.sum();
+    }
+
+    /**
+     * Inicia los hilos que procesan los webhooks encolados, si aún no existen.
+     *
+     * @return El ejecutor de webhooks por token_uuid.
+     */
+    private KeyedSerialExecutor<String> ensureWebhookWorkers() {
+        KeyedSerialExecutor<String> executor = webhookExecutor;
+        if (executor != null) {
+            return executor;
+        }
+        lifecycleLock.lock();
+        try {
+            if (webhookExecutor == null) {
+                webhookWorkers = RedPayExecutors.newFixedExecutor("RedPayWebhookWorker",
+                        config.getExecution_mode(), managerConfig.getWebhook_workers());
+                webhookExecutor = new KeyedSerialExecutor<>(webhookWorkers);
+            }
+            return webhookExecutor;
+        } finally {
+            lifecycleLock.unlock();
+        }
+    }
+
+    /**
+     * Clave de ordenamiento de un webhook encolado.
+     *
+     * @param webhook La carga útil del webhook.
+     * @return El token_uuid del webhook, o una cadena vacía si no lo tiene.
+     */
+    private static String webhookKey(WebhookPreAuthorization webhook) {
+        return webhook.getToken_uuid() != null ? webhook.getToken_uuid() : "";
+    }
+
+    /**
+     * Procesa un webhook encolado e informa sus errores a
+     * {@link #onWebhookProcessingError(WebhookPreAuthorization, Exception)}.
+     *
+     * @param webhook La carga útil del webhook.
+     * @param dedupKey Clave de descarte de repetidos del webhook, o null.
+     */
+    private void handleQueuedWebhook(WebhookPreAuthorization webhook, String dedupKey) {
+        try {
+            handleVerifiedWebhook(webhook);
+            markAccepted(dedupKey);
+        } catch (Exception e) {
+            try {
+                onWebhookProcessingError(webhook, e);
+            } catch (RuntimeException hookError) {
+                LOGGER.error("Error en onWebhookProcessingError", hookError);
+            }
+        } finally {
+            endInFlight(dedupKey);
+        }
+    }
+
+    /**
+     * Detiene el procesamiento periódico y los hilos internos del gestor, y
+     * cancela su suscripción a las revocaciones de tokens. Los webhooks que
+     * permanecen en la cola se descartan.
+     */
+    public void shutdown() {
+        stop();
+        if (revocationListener != null) {
+            RedPayRevocationNotifier.getInstance().removeListener(revocationListener);
+        }
+        lifecycleLock.lock();
+        try {
+            if (webhookWorkers != null) {
+                webhookWorkers.shutdownNow();
+            }
+        } finally {
+            lifecycleLock.unlock();
+        }
+        workers.shutdownNow();
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Registra el código de estado de un webhook exitoso, ya procesado por
+     * completo, en el índice de resoluciones, de modo que la orden pendiente
+     * con el mismo authorization_uuid se resuelva sin consultar a RedPay. Los
+     * webhooks rechazados o con otro código de estado no se registran y su
+     * orden se valida con {@code validateAuthorization}.
+     *
+     * @param webhook La carga útil del webhook.
+     */
+    private void recordWebhookResolution(WebhookPreAuthorization webhook) {
+        if (!managerConfig.isWebhook_resolution_enabled() || webhook.getOperations() == null) {
+            return;
+        }
+        String authorizationUuid = webhook.getOperations().getAuthorization_uuid();
+        if (authorizationUuid == null) {
+            return;
         }
+        webhookResolutions.put(authorizationUuid, new WebhookResolution(webhook.getStatus_code(), System.nanoTime()));
+        wakeUp();
     }
 
     /**
@@ -103,6 +845,32 @@ public abstract class RedPayAuthorizationManager {
         }
     }
 
+    /**
+     * Lee el cuerpo de un webhook, valida su firma y construye el
+     * {@link WebhookPreAuthorization} solo si la firma es válida.
+     *
+     * @param body Arreglo que contiene el cuerpo del webhook, en JSON.
+     * @param length Longitud del cuerpo, en bytes.
+     * @return La carga útil del webhook.
+     * @throws InvalidSignatureError Si la firma es inválida.
+     * @throws IOException Si el cuerpo no es un objeto JSON válido.
+     */
+    private WebhookPreAuthorization readVerifiedWebhook(byte[] body, int length) throws IOException {
+        JsonNode tree = RedPayJsonCodec.readTree(body, 0, length);
+        if (!tree.isObject()) {
+            throw new IOException("El cuerpo del webhook debe ser un objeto JSON");
+        }
+
+        String signature = tree.path("signature").asText(null);
+        String signatureValid = this.integrityService.generateSignature(tree, config.getSecrets().getIntegrity());
+        if (!signatureValid.equals(signature)) {
+            LOGGER.error("Firma inválida: {}", signature);
+            throw new InvalidSignatureError();
+        }
+
+        return WEBHOOK_READER.treeToValue(tree, WebhookPreAuthorization.class);
+    }
+
     /**
      * Verifica si el código de estado del webhook indica un evento válido.
      *
@@ -130,66 +898,297 @@ public abstract class RedPayAuthorizationManager {
     /**
      * Inicia el procesamiento periódico de órdenes de autorización pendientes.
      * <p>
-     * El proceso se ejecuta cada 1000 milisegundos, recuperando órdenes
-     * pendientes, procesando cada una y gestionando los errores según sea
-     * necesario.
+     * El proceso se ejecuta cada
+     * {@link AuthorizationManagerConfig#getPoll_interval_ms()} milisegundos
+     * (por defecto 1000), recuperando órdenes pendientes y procesando solo las
+     * que corresponde revisar según su calendario: las órdenes nuevas se
+     * revisan de inmediato y las que siguen pendientes se revisan cada vez con
+     * menor frecuencia. Si no hay órdenes pendientes el proceso se detiene,
+     * salvo que se haya registrado una orden nueva mediante
+     * {@link #registerPendingOrder(AuthorizeOrder)}.
      * </p>
      */
     public void start() {
-        if (intervalFuture != null && !intervalFuture.isCancelled()) {
+        lifecycleLock.lock();
+        try {
+            if (intervalFuture != null && !intervalFuture.isCancelled()) {
+                return;
+            }
+
+            intervalFuture = scheduler.scheduleAtFixedRate(this::poll, 0,
+                    Math.max(1L, managerConfig.getPoll_interval_ms()), TimeUnit.MILLISECONDS);
+        } finally {
+            lifecycleLock.unlock();
+        }
+    }
+
+    /**
+     * Detiene el procesamiento periódico de órdenes.
+     */
+    public void stop() {
+        lifecycleLock.lock();
+        try {
+            if (intervalFuture != null) {
+                intervalFuture.cancel(true);
+                intervalFuture = null;
+                isProcessing = false;
+            }
+        } finally {
+            lifecycleLock.unlock();
+        }
+    }
+
+    /**
+     * Registra una nueva orden pendiente de autorización.
+     * <p>
+     * La orden se revisa en el próximo ciclo, sin esperar su calendario, y el
+     * procesamiento periódico se inicia si estaba detenido. La orden debe
+     * estar incluida en {@link #pendingAuthorizeOrders()} para ser procesada.
+     * </p>
+     *
+     * @param authorizeOrder La orden pendiente.
+     */
+    public void registerPendingOrder(AuthorizeOrder authorizeOrder) {
+        pollStates.put(authorizeOrder.getAuthorization_uuid(), PollState.registered(System.nanoTime(), managerConfig));
+        wakeUp();
+    }
+
+    /**
+     * Solicita que el procesamiento periódico continúe y lo inicia si estaba
+     * detenido. La solicitud se registra bajo el mismo bloqueo con el que el
+     * ciclo decide detenerse, de modo que no puede perderse entre esa decisión
+     * y la detención.
+     */
+    private void wakeUp() {
+        lifecycleLock.lock();
+        try {
+            wakeUpRequested = true;
+            start();
+        } finally {
+            lifecycleLock.unlock();
+        }
+    }
+
+    /**
+     * Ciclo del procesamiento periódico.
+     */
+    private void poll() {
+        if (isProcessing) {
             return;
         }
 
-        intervalFuture = scheduler.scheduleAtFixedRate(() -> {
+        isProcessing = true;
+        wakeUpRequested = false;
 
-            if (isProcessing) {
-                return;
-            }
+        try {
+            int batchSize = pollBatchSize();
+            long now = System.nanoTime();
+            Set<String> pending = new HashSet<>();
 
-            isProcessing = true;
+            // Las órdenes se leen por tramos: el siguiente tramo se solicita solo cuando el anterior terminó
+            try (Stream<AuthorizeOrder> orders = streamPendingAuthorizeOrders(batchSize)) {
+                Iterator<AuthorizeOrder> iterator = orders.iterator();
+                List<AuthorizeOrder> chunk = new ArrayList<>(batchSize);
+                while (iterator.hasNext()) {
+                    chunk.add(iterator.next());
+                    if (chunk.size() == batchSize) {
+                        processChunk(chunk, pending, now);
+                    }
+                }
+                processChunk(chunk, pending, now);
+            }
 
-            try {
-                List<AuthorizeOrder> orders = pendingAuthorizeOrders();
+            pruneStates(pending, now);
 
-                if (orders.isEmpty()) {
-                    stop();
-                    return;
+            if (pending.isEmpty()) {
+                // Se detiene solo si no quedan órdenes registradas en espera ni resoluciones por descartar
+                lifecycleLock.lock();
+                try {
+                    if (!wakeUpRequested && pollStates.isEmpty() && webhookResolutions.isEmpty()) {
+                        stop();
+                    }
+                } finally {
+                    lifecycleLock.unlock();
                 }
+            }
+
+        } catch (Exception e) {
 
-                processAuthorizeOrders(orders);
+            LOGGER.error("Error durante el procesamiento de órdenes", e);
+            stop();
 
-            } catch (Exception e) {
+        } finally {
+            isProcessing = false;
+        }
+    }
 
-                LOGGER.error("Error durante el procesamiento de órdenes", e);
-                stop();
+    /**
+     * Procesa las órdenes de un tramo que corresponde revisar y vacía el tramo.
+     *
+     * @param chunk Tramo de órdenes pendientes.
+     * @param pending Identificadores de las órdenes pendientes vistas en el
+     * ciclo.
+     * @param now Inicio del ciclo (System.nanoTime).
+     * @throws Exception Si el procesamiento de alguna orden falla.
+     */
+    private void processChunk(List<AuthorizeOrder> chunk, Set<String> pending, long now) throws Exception {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        List<AuthorizeOrder> dueOrders = dueOrders(chunk, pending, now);
+        chunk.clear();
+        if (!dueOrders.isEmpty()) {
+            processAuthorizeOrders(dueOrders);
+        }
+    }
 
-            } finally {
-                isProcessing = false;
+    /**
+     * Selecciona las órdenes que corresponde revisar en este ciclo y avanza su
+     * calendario.
+     * <p>
+     * Cada orden se revisa primero de inmediato y luego con esperas crecientes
+     * (multiplicadas por
+     * {@link AuthorizationManagerConfig#getPoll_backoff_multiplier()}) hasta
+     * {@link AuthorizationManagerConfig#getPoll_max_interval_ms()}.
+     * </p>
+     *
+     * @param orders Un tramo de las órdenes pendientes.
+     * @param pending Identificadores de las órdenes pendientes vistas en el
+     * ciclo, al que se agregan las del tramo.
+     * @param now Inicio del ciclo (System.nanoTime).
+     * @return Las órdenes a revisar.
+     */
+    private List<AuthorizeOrder> dueOrders(List<AuthorizeOrder> orders, Set<String> pending, long now) {
+        List<AuthorizeOrder> due = new ArrayList<>();
+
+        for (AuthorizeOrder order : orders) {
+            String authorizationUuid = order.getAuthorization_uuid();
+            pending.add(authorizationUuid);
+            if (retrying.contains(authorizationUuid)) {
+                continue;
+            }
+
+            PollState state = pollStates.get(authorizationUuid);
+            if (state == null) {
+                state = PollState.registered(now, managerConfig);
             }
+            if (webhookResolutions.containsKey(authorizationUuid)) {
+                due.add(order);
+                pollStates.remove(authorizationUuid);
+            } else if (state.isDue(now)) {
+                due.add(order);
+                pollStates.put(authorizationUuid, state.next(now, managerConfig));
+            } else if (!state.seen) {
+                pollStates.put(authorizationUuid, state.markSeen());
+            }
+        }
 
-        }, 0, 1, TimeUnit.SECONDS);
+        return due;
     }
 
     /**
-     * Detiene el procesamiento periódico de órdenes.
+     * Descarta el calendario y las resoluciones por webhook de las órdenes que
+     * ya no están pendientes.
+     *
+     * @param pending Identificadores de las órdenes pendientes del ciclo.
+     * @param now Inicio del ciclo (System.nanoTime).
      */
-    public void stop() {
-        if (intervalFuture != null) {
-            intervalFuture.cancel(true);
-            intervalFuture = null;
-            isProcessing = false;
-        }
+    private void pruneStates(Set<String> pending, long now) {
+        // Las órdenes registradas que aún no aparecen como pendientes se conservan por un tiempo
+        long registrationGraceNanos = TimeUnit.MILLISECONDS.toNanos(managerConfig.getPoll_max_interval_ms());
+        pollStates.entrySet().removeIf(entry -> !pending.contains(entry.getKey())
+                && (entry.getValue().seen || now - entry.getValue().registeredAt > registrationGraceNanos));
+
+        // Se descartan las resoluciones de webhooks que no corresponden a ninguna orden pendiente
+        long resolutionRetentionNanos = 2 * TimeUnit.MILLISECONDS.toNanos(
+                Math.max(managerConfig.getWebhook_resolution_timeout_ms(), managerConfig.getPoll_max_interval_ms()));
+        webhookResolutions.entrySet().removeIf(entry -> !pending.contains(entry.getKey())
+                && now - entry.getValue().receivedAt > resolutionRetentionNanos);
     }
 
     /**
      * Procesa múltiples órdenes de autorización.
+     * <p>
+     * Las órdenes se validan en paralelo, con a lo sumo
+     * {@link AuthorizationManagerConfig#getMax_concurrency()} validaciones en
+     * curso. Si el procesamiento de una orden falla, no se inician nuevas
+     * órdenes del lote, se espera a las que están en curso y se relanza el
+     * primer error. Las órdenes con un reintento programado se omiten. Al
+     * finalizar se informa el resumen del lote a
+     * {@link #onBatchCompleted(AuthorizationBatchStats)}.
+     * </p>
      *
      * @param authorizeOrders La lista de órdenes a procesar.
      * @throws Exception Si el procesamiento de alguna orden falla.
      */
     private void processAuthorizeOrders(List<AuthorizeOrder> authorizeOrders) throws Exception {
+        long startedAt = System.nanoTime();
+        BatchCounter counter = new BatchCounter();
+        AtomicReference<Exception> failure = new AtomicReference<>();
+
+        // Las órdenes con un reintento programado se procesan desde el planificador de reintentos
+        List<AuthorizeOrder> readyOrders = new ArrayList<>(authorizeOrders.size());
         for (AuthorizeOrder order : authorizeOrders) {
-            processSingleAuthorization(order);
+            if (!retrying.contains(order.getAuthorization_uuid())) {
+                readyOrders.add(order);
+            }
+        }
+
+        int maxConcurrency = Math.max(1, managerConfig.getMax_concurrency());
+
+        try {
+            if (maxConcurrency == 1) {
+                for (AuthorizeOrder order : readyOrders) {
+                    validationPermits.acquire();
+                    try {
+                        counter.add(processSingleAuthorization(order, 1));
+                    } finally {
+                        releaseValidationPermit();
+                    }
+                }
+            } else {
+                List<CompletableFuture<Void>> inFlight = new ArrayList<>(readyOrders.size());
+
+                for (AuthorizeOrder order : readyOrders) {
+                    validationPermits.acquire();
+                    if (failure.get() != null) {
+                        releaseValidationPermit();
+                        break;
+                    }
+                    try {
+                        inFlight.add(CompletableFuture.runAsync(() -> {
+                            try {
+                                counter.add(processSingleAuthorization(order, 1));
+                            } catch (Exception e) {
+                                failure.compareAndSet(null, e);
+                            } finally {
+                                releaseValidationPermit();
+                            }
+                        }, workers));
+                    } catch (RejectedExecutionException e) {
+                        releaseValidationPermit();
+                        throw e;
+                    }
+                }
+
+                try {
+                    CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new)).get();
+                } catch (ExecutionException e) {
+                    failure.compareAndSet(null, new Exception(e.getCause()));
+                }
+
+                if (failure.get() != null) {
+                    throw failure.get();
+                }
+            }
+        } finally {
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+            int resolved = counter.get(Outcome.RESOLVED);
+            int succeeded = counter.get(Outcome.SUCCESS) + resolved;
+            int failed = counter.get(Outcome.ERROR);
+            int retried = counter.get(Outcome.RETRY);
+            onBatchCompleted(new AuthorizationBatchStats(authorizeOrders.size(), succeeded, resolved, failed, retried,
+                    authorizeOrders.size() - succeeded - failed - retried, elapsedMs));
         }
     }
 
@@ -197,9 +1196,23 @@ public abstract class RedPayAuthorizationManager {
      * Procesa una única orden de autorización.
      *
      * @param authorizeOrder La orden a procesar.
+     * @param attempt Número de intento de la orden, comenzando en 1.
+     * @return El evento con el que terminó el procesamiento de la orden.
      * @throws Exception Si el procesamiento falla.
      */
-    private void processSingleAuthorization(AuthorizeOrder authorizeOrder) throws Exception {
+    private Outcome processSingleAuthorization(AuthorizeOrder authorizeOrder, int attempt) throws Exception {
+        WebhookResolution resolution = webhookResolutions.remove(authorizeOrder.getAuthorization_uuid());
+        if (resolution != null) {
+            // La autorización ya fue informada por webhook: no es necesario consultar a RedPay
+            try {
+                onSuccess(authorizeOrder, resolution.statusCode);
+            } catch (Exception e) {
+                LOGGER.error("Error al procesar la orden de autorización en su implementación", e);
+                throw new ImplementationError(e);
+            }
+            return Outcome.RESOLVED;
+        }
+
         ValidateAuthorizationResponse response;
         try {
             ValidateAuthorizationCollectorRequest request = new ValidateAuthorizationCollectorRequest();
@@ -216,12 +1229,11 @@ public abstract class RedPayAuthorizationManager {
                 apiError = new ApiError(e.getMessage(), null, null, null);
             }
 
-            handleAuthorizationError(authorizeOrder, apiError);
-            return;
+            return handleAuthorizationError(authorizeOrder, apiError, attempt);
         }
 
         if (response == null) {
-            return;
+            return Outcome.SKIPPED;
         }
 
         try {
@@ -230,6 +1242,7 @@ public abstract class RedPayAuthorizationManager {
             LOGGER.error("Error al procesar la orden de autorización en su implementación", e);
             throw new ImplementationError(e);
         }
+        return Outcome.SUCCESS;
     }
 
     /**
@@ -237,36 +1250,164 @@ public abstract class RedPayAuthorizationManager {
      *
      * @param authorizeOrder La orden que causó el error.
      * @param e El error encontrado (siempre un ApiError).
+     * @param attempt Número del intento que falló.
+     * @return El evento con el que terminó el procesamiento de la orden.
      * @throws Exception Si el error no puede ser resuelto.
      */
-    private void handleAuthorizationError(AuthorizeOrder authorizeOrder, ApiError e) throws Exception {
-        if (ConstantsRedPay.STATUS_CODE_RETRY.equals(e.getStatusCode())) {
-            LOGGER.warn("Error al procesar la orden de autorización, reintento en 2 segundos: {}", e.getMessage());
-            // Espera 2 segundos y reintenta el procesamiento de la orden.
-            Thread.sleep(2000);
-            processSingleAuthorization(authorizeOrder);
+    private Outcome handleAuthorizationError(AuthorizeOrder authorizeOrder, ApiError e, int attempt) throws Exception {
+        if (ConstantsRedPay.STATUS_CODE_RETRY.equals(e.getStatusCode())
+                && attempt < managerConfig.getRetry_max_attempts()) {
+            long delayMs = retryDelay(attempt);
+            LOGGER.warn("Error al procesar la orden de autorización, reintento en {} ms: {}", delayMs, e.getMessage());
+            scheduleRetry(authorizeOrder, attempt + 1, delayMs);
+            return Outcome.RETRY;
         } else {
             LOGGER.error("Error al procesar la orden de autorización: {}", e.getMessage());
             onError(authorizeOrder, e.getStatusCode());
+            return Outcome.ERROR;
+        }
+    }
+
+    /**
+     * Calcula la espera antes de un reintento: crece de forma exponencial a
+     * partir de {@link AuthorizationManagerConfig#getRetry_initial_delay_ms()},
+     * con el tope {@link AuthorizationManagerConfig#getRetry_max_delay_ms()} y
+     * una variación aleatoria que evita que los reintentos de muchas órdenes
+     * coincidan.
+     *
+     * @param attempt Número del intento que falló.
+     * @return La espera en milisegundos.
+     */
+    private long retryDelay(int attempt) {
+        double delay = managerConfig.getRetry_initial_delay_ms()
+                * Math.pow(Math.max(1.0, managerConfig.getRetry_multiplier()), attempt - 1);
+        delay = Math.min(delay, managerConfig.getRetry_max_delay_ms());
+
+        double jitter = Math.min(Math.max(managerConfig.getRetry_jitter(), 0.0), 1.0);
+        if (jitter > 0) {
+            delay *= 1.0 + jitter * (2 * ThreadLocalRandom.current().nextDouble() - 1);
+        }
+        return Math.max(0L, Math.round(delay));
+    }
+
+    /**
+     * Programa el reintento de una orden sin ocupar ningún hilo durante la
+     * espera: la orden se mantiene en la cola del planificador y, cumplido el
+     * plazo, espera un cupo de validación y se valida en el ejecutor de
+     * trabajo. Los reintentos comparten los cupos de los lotes, por lo que no
+     * superan {@link AuthorizationManagerConfig#getMax_concurrency()}.
+     *
+     * @param authorizeOrder La orden a reintentar.
+     * @param attempt Número del próximo intento.
+     * @param delayMs Espera en milisegundos.
+     */
+    private void scheduleRetry(AuthorizeOrder authorizeOrder, int attempt, long delayMs) {
+        String authorizationUuid = authorizeOrder.getAuthorization_uuid();
+        retrying.add(authorizationUuid);
+        try {
+            scheduler.schedule(() -> {
+                dueRetries.add(() -> runRetry(authorizeOrder, attempt));
+                drainRetries();
+            }, delayMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            retrying.remove(authorizationUuid);
+            LOGGER.error("No fue posible programar el reintento de la orden de autorización: {}", authorizationUuid);
+        }
+    }
+
+    /**
+     * Ejecuta los reintentos pendientes mientras haya cupos de validación
+     * libres, sin bloquear el hilo que lo invoca.
+     */
+    private void drainRetries() {
+        while (!dueRetries.isEmpty() && validationPermits.tryAcquire()) {
+            Runnable retry = dueRetries.poll();
+            if (retry == null) {
+                validationPermits.release();
+                continue;
+            }
+            try {
+                workers.execute(() -> {
+                    try {
+                        retry.run();
+                    } finally {
+                        releaseValidationPermit();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                validationPermits.release();
+                LOGGER.error("No fue posible ejecutar un reintento de orden de autorización: el gestor está detenido");
+                return;
+            }
+        }
+    }
+
+    /**
+     * Libera un cupo de validación y lo ofrece primero a los reintentos que
+     * esperan uno.
+     */
+    private void releaseValidationPermit() {
+        validationPermits.release();
+        drainRetries();
+    }
+
+    /**
+     * Ejecuta un reintento programado de una orden.
+     * <p>
+     * Si el reintento falla por un error de la implementación, se detiene el
+     * procesamiento periódico, igual que cuando el error ocurre en un lote.
+     * </p>
+     *
+     * @param authorizeOrder La orden a reintentar.
+     * @param attempt Número del intento.
+     */
+    private void runRetry(AuthorizeOrder authorizeOrder, int attempt) {
+        Outcome outcome = null;
+        try {
+            outcome = processSingleAuthorization(authorizeOrder, attempt);
+        } catch (Exception e) {
+            LOGGER.error("Error durante el reintento de la orden de autorización", e);
+            stop();
+        } finally {
+            if (outcome != Outcome.RETRY) {
+                retrying.remove(authorizeOrder.getAuthorization_uuid());
+            }
         }
     }
 
     /**
      * Valida que la orden pueda ser reutilizada.
+     * <p>
+     * Si el gestor tiene un {@link ReuseCounterStore}, la verificación y el
+     * registro de la reutilización se realizan en una única operación atómica.
+     * En caso contrario se compara el límite con
+     * {@link #countAuthorizationByOrder(String)}.
+     * </p>
      *
      * @param order La orden a validar.
+     * @return true si la reutilización quedó registrada en el
+     * {@link ReuseCounterStore}.
      * @throws OrderReuseLimitError Si la orden ha superado su límite de
      * reutilización.
      */
-    private void validateOrderReuse(Order order) throws Exception {
+    private boolean validateOrderReuse(Order order) throws Exception {
+        if (reuseCounterStore != null) {
+            if (!reuseCounterStore.tryIncrement(order.getToken_uuid(), order.getReusability())) {
+                LOGGER.error("La orden ha superado su límite de reutilización: {}", order.getReusability());
+                throw new OrderReuseLimitError();
+            }
+            return true;
+        }
+
         int count = countAuthorizationByOrder(order.getToken_uuid());
         if (count == -1) {
-            return;
+            return false;
         }
         if (order.getReusability() <= count) {
             LOGGER.error("La orden ha superado su límite de reutilización: {}", order.getReusability());
             throw new OrderReuseLimitError();
         }
+        return false;
     }
 
     /**
@@ -284,6 +1425,84 @@ public abstract class RedPayAuthorizationManager {
         return -1;
     }
 
+    /**
+     * Se invoca al terminar el procesamiento de cada lote de órdenes
+     * pendientes, incluso si el lote se interrumpió por un error.
+     * <p>
+     * La implementación por defecto registra el resumen del lote en el log.
+     * Sobrescribe este método para exportar métricas de rendimiento.
+     * </p>
+     *
+     * @param stats Resumen del lote procesado.
+     */
+    protected void onBatchCompleted(AuthorizationBatchStats stats) {
+        LOGGER.debug("Lote de autorizaciones procesado: {} órdenes ({} exitosas, {} con error) en {} ms ({} órdenes/s)",
+                stats.getTotal(), stats.getSucceeded(), stats.getFailed(), stats.getElapsed_ms(),
+                String.format("%.1f", stats.getThroughput()));
+    }
+
+    /**
+     * Indica durante cuánto tiempo se guarda una orden en la caché de
+     * órdenes.
+     * <p>
+     * Por defecto retorna
+     * {@link AuthorizationManagerConfig#getOrder_cache_ttl_ms()}. Puede
+     * sobrescribirse para limitarlo a la vigencia restante del token de la
+     * orden; el valor retornado nunca extiende el máximo configurado.
+     * </p>
+     *
+     * @param order La orden a guardar.
+     * @return El tiempo de vida de la orden en la caché, en milisegundos.
+     */
+    protected long orderCacheTtlMillis(Order order) {
+        return managerConfig.getOrder_cache_ttl_ms();
+    }
+
+    /**
+     * Se invoca cuando se descarta un webhook repetido.
+     * <p>
+     * Por defecto registra el descarte. Puede sobrescribirse para exportar
+     * métricas.
+     * </p>
+     *
+     * @param webhook La carga útil del webhook descartado.
+     */
+    protected void onDuplicateWebhook(WebhookPreAuthorization webhook) {
+        LOGGER.debug("Webhook repetido descartado para el token {}", webhook.getToken_uuid());
+    }
+
+    /**
+     * Se invoca cuando falla el procesamiento de un webhook encolado con
+     * {@link #submitWebhookPreAuthorize(WebhookPreAuthorization)}.
+     * <p>
+     * Por defecto registra el error. Puede sobrescribirse para reintentar o
+     * registrar el webhook.
+     * </p>
+     *
+     * @param webhook La carga útil del webhook.
+     * @param error El error producido.
+     */
+    protected void onWebhookProcessingError(WebhookPreAuthorization webhook, Exception error) {
+        LOGGER.error("Error al procesar el webhook del token {}", webhook.getToken_uuid(), error);
+    }
+
+    /**
+     * Recibe los webhooks que no caben en la cola con la política
+     * {@link WebhookOverflowPolicy#SPILL}, ya con la firma validada.
+     * <p>
+     * Debe sobrescribirse para persistir el webhook (por ejemplo, en una base
+     * de datos o una cola de mensajes) y procesarlo más tarde con
+     * {@link #processWebhookPreAuthorize(WebhookPreAuthorization)}. Por
+     * defecto rechaza el webhook.
+     * </p>
+     *
+     * @param webhook La carga útil del webhook.
+     * @throws Exception Si no se puede derramar el webhook.
+     */
+    protected void onWebhookSpilled(WebhookPreAuthorization webhook) throws Exception {
+        throw new WebhookQueueFullError();
+    }
+
     // MÉTODOS ABSTRACTOS: Las subclases deben implementar estos métodos
     /**
      * Recupera la orden asociada al UUID del token dado.
@@ -296,12 +1515,51 @@ public abstract class RedPayAuthorizationManager {
 
     /**
      * Recupera las órdenes de autorización pendientes.
+     * <p>
+     * Para leer las órdenes de forma incremental se puede extender
+     * {@link RedPayStreamingAuthorizationManager}, que implementa este método
+     * a partir de {@link #streamPendingAuthorizeOrders(int)}.
+     * </p>
      *
      * @return Una lista de órdenes de autorización pendientes.
      * @throws Exception Si falla la recuperación.
      */
     public abstract List<AuthorizeOrder> pendingAuthorizeOrders() throws Exception;
 
+    /**
+     * Recupera las órdenes de autorización pendientes como un flujo que se
+     * consume de forma incremental.
+     * <p>
+     * El gestor consume el flujo en tramos de {@code batchSizeHint} órdenes y
+     * solo avanza al siguiente tramo cuando terminó de procesar el anterior, de
+     * modo que un backlog grande puede leerse con un cursor de base de datos
+     * sin cargarlo completo en memoria. El flujo se cierra al terminar cada
+     * ciclo, por lo que puede liberar el cursor en {@link Stream#onClose}.
+     * </p>
+     * <p>
+     * Por defecto devuelve el contenido de {@link #pendingAuthorizeOrders()}.
+     * {@link RedPayStreamingAuthorizationManager} lo declara abstracto.
+     * </p>
+     *
+     * @param batchSizeHint Número de órdenes que el gestor procesa por tramo
+     * (tamaño sugerido para las lecturas de la fuente).
+     * @return Un flujo de órdenes de autorización pendientes.
+     * @throws Exception Si falla la recuperación.
+     */
+    public Stream<AuthorizeOrder> streamPendingAuthorizeOrders(int batchSizeHint) throws Exception {
+        return pendingAuthorizeOrders().stream();
+    }
+
+    /**
+     * Obtiene el número de órdenes pendientes que se procesan por tramo.
+     *
+     * @return {@link AuthorizationManagerConfig#getPoll_batch_size()}, al
+     * menos 1.
+     */
+    int pollBatchSize() {
+        return Math.max(1, managerConfig.getPoll_batch_size());
+    }
+
     /**
      * Maneja el evento de pre-autorización.
      *
@@ -336,4 +1594,111 @@ public abstract class RedPayAuthorizationManager {
      * @throws Exception Si falla el manejo del error.
      */
     public abstract void onError(AuthorizeOrder authorizeOrder, String statusCode) throws Exception;
+
+    /**
+     * Evento con el que termina el procesamiento de una orden pendiente.
+     */
+    private enum Outcome {
+        SUCCESS,
+        RESOLVED,
+        ERROR,
+        RETRY,
+        SKIPPED
+    }
+
+    /**
+     * Calendario de revisión de una orden pendiente. Es inmutable: cada cambio
+     * reemplaza la entrada en {@code pollStates}.
+     */
+    private static final class PollState {
+
+        /**
+         * Momento (System.nanoTime) de la próxima revisión.
+         */
+        final long nextCheckAt;
+
+        /**
+         * Espera hasta la revisión siguiente a la próxima, en milisegundos.
+         */
+        final long intervalMs;
+
+        /**
+         * Indica si la orden ya apareció entre las órdenes pendientes.
+         */
+        final boolean seen;
+
+        /**
+         * Momento (System.nanoTime) en que se registró la orden.
+         */
+        final long registeredAt;
+
+        PollState(long nextCheckAt, long intervalMs, boolean seen, long registeredAt) {
+            this.nextCheckAt = nextCheckAt;
+            this.intervalMs = intervalMs;
+            this.seen = seen;
+            this.registeredAt = registeredAt;
+        }
+
+        static PollState registered(long now, AuthorizationManagerConfig config) {
+            // Con resolución por webhook, la primera consulta a RedPay se difiere hasta el plazo
+            long firstCheckAt = config.isWebhook_resolution_enabled()
+                    ? now + TimeUnit.MILLISECONDS.toNanos(config.getWebhook_resolution_timeout_ms())
+                    : now;
+            return new PollState(firstCheckAt, Math.max(1L, config.getPoll_interval_ms()), false, now);
+        }
+
+        boolean isDue(long now) {
+            return now - nextCheckAt >= 0;
+        }
+
+        PollState next(long now, AuthorizationManagerConfig config) {
+            long nextInterval = (long) Math.min(intervalMs * Math.max(1.0, config.getPoll_backoff_multiplier()),
+                    Math.max(intervalMs, config.getPoll_max_interval_ms()));
+            return new PollState(now + TimeUnit.MILLISECONDS.toNanos(intervalMs), nextInterval, true, registeredAt);
+        }
+
+        PollState markSeen() {
+            return new PollState(nextCheckAt, intervalMs, true, registeredAt);
+        }
+    }
+
+    /**
+     * Código de estado informado por un webhook para una autorización.
+     */
+    private static final class WebhookResolution {
+
+        final String statusCode;
+
+        /**
+         * Momento (System.nanoTime) en que se recibió el webhook.
+         */
+        final long receivedAt;
+
+        WebhookResolution(String statusCode, long receivedAt) {
+            this.statusCode = statusCode;
+            this.receivedAt = receivedAt;
+        }
+    }
+
+    /**
+     * Contadores de eventos de un lote, seguros entre hilos.
+     */
+    private static final class BatchCounter {
+
+        private final AtomicInteger[] counts = new AtomicInteger[Outcome.values().length];
+
+        BatchCounter() {
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = new AtomicInteger();
+            }
+        }
+
+        void add(Outcome outcome) {
+            counts[outcome.ordinal()].incrementAndGet();
+        }
+
+        int get(Outcome outcome) {
+            return counts[outcome.ordinal()].get();
+        }
+    }
 }
@@ -1,103 +1,253 @@
 package com.redpay.services;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
-import org.apache.commons.codec.digest.HmacAlgorithms;
-import org.apache.commons.codec.digest.HmacUtils;
+import javax.crypto.Mac;
+
+import org.apache.commons.codec.binary.Hex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonFactoryBuilder;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.json.JsonWriteFeature;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.POJONode;
+import com.redpay.config.RedPayJsonCodec;
+import com.redpay.config.RedPayMacCache;
 
 /**
  * Servicio encargado de generar y validar firmas utilizando HMAC SHA256.
  * <p>
- * Este servicio utiliza Jackson para convertir el objeto payload a una
- * representación JSON, luego extrae sus campos en un orden consistente
- * (ordenando las entradas por clave) y finalmente genera una firma HMAC SHA256
- * utilizando la clave secreta proporcionada.
+ * La firma se calcula sobre la concatenación de cada campo de primer nivel del
+ * payload (ordenados por clave, omitiendo los nulos y el campo "signature")
+ * seguido de su valor en JSON compacto, con las claves de los objetos anidados
+ * también ordenadas. Esa representación canónica se escribe directamente en el
+ * {@link Mac}, sin construir cadenas intermedias.
  * </p>
  */
 public class RedPayIntegrityService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(RedPayIntegrityService.class);
 
+    /**
+     * Mapper de firmas, utilizado para convertir en árbol los payloads que no
+     * lo son.
+     */
+    private static final ObjectMapper mapper = RedPayJsonCodec.signatureMapper();
+
+    /**
+     * Fábrica de generadores para la representación canónica: sin separador
+     * entre valores de primer nivel y con los caracteres fuera del plano
+     * básico codificados como UTF-8 estándar.
+     */
+    private static final JsonFactory canonicalFactory = new JsonFactoryBuilder()
+            .rootValueSeparator((String) null)
+            .enable(JsonWriteFeature.COMBINE_UNICODE_SURROGATES_IN_UTF8)
+            .build();
+
     /**
      * Genera una firma HMAC SHA256 para el objeto payload utilizando la clave
      * secreta proporcionada.
      *
-     * @param payload Objeto a firmar.
+     * @param payload Objeto a firmar (DTO, mapa o árbol JSON).
      * @param secretKey Clave secreta para la generación de la firma.
      * @return La firma generada en formato hexadecimal.
      */
     public String generateSignature(Object payload, String secretKey) {
 
-        List<Object> objectList = new ArrayList<>();
+        Mac mac = RedPayMacCache.acquire(secretKey);
+        String signature;
 
         try {
-            // Configurar el ObjectMapper para que acepte propiedades insensibles a mayúsculas/minúsculas
-            // y para ordenar las entradas del mapa por clave.
-            ObjectMapper mapper = JsonMapper.builder()
-                    .enable(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES)
-                    .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true)
-                    .build();
-
-            // Convertir el payload a un objeto JSON genérico
-            Object json = mapper.readValue(mapper.writeValueAsString(payload), Object.class);
-            // Leer el JSON en un JsonNode para poder iterar sobre sus campos
-            JsonNode jsonNode = mapper.readTree(mapper.writerWithDefaultPrettyPrinter().writeValueAsString(json));
-
-            for (Iterator<String> it = jsonNode.fieldNames(); it.hasNext();) {
-                String key = it.next();
-                JsonNode valueNode = jsonNode.get(key);
-
-                // Se omite cualquier campo nulo o el campo "signature" para evitar incluirlo en el cálculo.
-                if (valueNode == null || valueNode.isNull() || Objects.equals(key, "signature")) {
-                    continue;
-                }
-                objectList.add(key + valueNode);
-            }
-        } catch (JsonProcessingException e) {
+            writeCanonicalFields(payload, new MacOutputStream(mac));
+        } catch (IOException | IllegalArgumentException e) {
             LOGGER.error(String.format("Error SignatureService: Json Processing in Object: %s %s",
                     payload.getClass().getName(), e));
+            mac.reset();
+        } finally {
+            signature = Hex.encodeHexString(mac.doFinal());
+            RedPayMacCache.release(secretKey, mac);
         }
 
-        String signature = validateSignature(objectList, secretKey);
+        LOGGER.debug(String.format("Signature generated is : -->%s<--", signature));
 
         return signature;
     }
 
     /**
-     * Genera la firma HMAC SHA256 a partir de una lista de representaciones de
-     * campos y la clave secreta.
+     * Obtiene la representación canónica que se firma para el payload: cada
+     * campo de primer nivel no nulo (salvo "signature"), ordenado por clave,
+     * seguido de su valor en JSON compacto.
+     * <p>
+     * Permite precalcular la parte constante de una firma: un {@link Mac}
+     * actualizado con estos bytes puede completarse luego con campos cuyas
+     * claves se ordenen después.
+     * </p>
      *
-     * @param objectList Lista de representaciones en cadena de los campos del
-     * objeto a firmar.
-     * @param secretKey Clave secreta utilizada para la firma.
-     * @return La firma generada en formato hexadecimal.
+     * @param payload Objeto a representar (DTO, mapa o árbol JSON).
+     * @return Los bytes UTF-8 de la representación canónica.
+     * @throws IOException Si ocurre un error durante la conversión.
      */
-    private String validateSignature(List<Object> objectList, String secretKey) {
+    public byte[] canonicalize(Object payload) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeCanonicalFields(payload, out);
+        return out.toByteArray();
+    }
 
-        StringBuilder chars = new StringBuilder();
-        objectList.forEach(o -> chars.append(o.toString()));
+    /**
+     * Escribe los campos firmables del payload en su representación canónica.
+     *
+     * @param payload Objeto a representar.
+     * @param out Flujo de destino.
+     * @throws IOException Si ocurre un error durante la escritura.
+     */
+    private static void writeCanonicalFields(Object payload, OutputStream out) throws IOException {
+        try (JsonGenerator generator = canonicalFactory.createGenerator(out, JsonEncoding.UTF8)) {
+            JsonNode jsonNode = payload instanceof JsonNode node ? node : mapper.valueToTree(payload);
 
-        HmacUtils hm256 = new HmacUtils(HmacAlgorithms.HMAC_SHA_256, secretKey);
-        String signature = hm256.hmacHex(chars.toString());
+            if (jsonNode != null && jsonNode.isObject()) {
+                for (String key : sortedFieldNames(jsonNode)) {
+                    JsonNode valueNode = jsonNode.get(key);
 
-        LOGGER.debug("SettlementRequest Signature for validation generated");
-        objectList.forEach(o -> LOGGER.debug(String.format("-->%s<--", o)));
-        LOGGER.debug(String.format("Signature generated is : -->%s<--", signature));
+                    // Se omite cualquier campo nulo o el campo "signature" para evitar incluirlo en el cálculo.
+                    if (valueNode.isNull() || Objects.equals(key, "signature")) {
+                        continue;
+                    }
+                    generator.writeRaw(wellFormed(key));
+                    writeCanonical(generator, valueNode);
+                }
+            }
+        }
+    }
 
-        return signature;
+    /**
+     * Escribe un valor en su representación canónica: objetos con las claves
+     * ordenadas y números decimales normalizados a {@code double}.
+     *
+     * @param generator Generador que alimenta el {@link Mac}.
+     * @param node Valor a escribir.
+     * @throws IOException Si ocurre un error durante la escritura.
+     */
+    private static void writeCanonical(JsonGenerator generator, JsonNode node) throws IOException {
+        switch (node.getNodeType()) {
+            case OBJECT -> {
+                generator.writeStartObject();
+                for (String key : sortedFieldNames(node)) {
+                    generator.writeFieldName(wellFormed(key));
+                    writeCanonical(generator, node.get(key));
+                }
+                generator.writeEndObject();
+            }
+            case ARRAY -> {
+                generator.writeStartArray();
+                for (JsonNode element : node) {
+                    writeCanonical(generator, element);
+                }
+                generator.writeEndArray();
+            }
+            case NUMBER -> {
+                if (node.isIntegralNumber()) {
+                    if (node.canConvertToLong()) {
+                        generator.writeNumber(node.longValue());
+                    } else {
+                        generator.writeNumber(node.bigIntegerValue());
+                    }
+                } else if (node.isFloat()) {
+                    generator.writeNumber(Double.parseDouble(Float.toString(node.floatValue())));
+                } else if (node.isBigDecimal()) {
+                    // Un decimal sin parte fraccionaria ni exponente se firma como entero
+                    String text = node.decimalValue().toString();
+                    if (text.indexOf('.') < 0 && text.indexOf('E') < 0) {
+                        generator.writeNumber(text);
+                    } else {
+                        generator.writeNumber(Double.parseDouble(text));
+                    }
+                } else {
+                    generator.writeNumber(node.doubleValue());
+                }
+            }
+            case STRING -> generator.writeString(wellFormed(node.textValue()));
+            case BOOLEAN -> generator.writeBoolean(node.booleanValue());
+            case BINARY -> generator.writeBinary(node.binaryValue());
+            case POJO -> writeCanonical(generator, mapper.valueToTree(((POJONode) node).getPojo()));
+            default -> generator.writeNull();
+        }
+    }
+
+    /**
+     * Reemplaza los sustitutos UTF-16 sin pareja por '?', tal como lo hace la
+     * codificación UTF-8 de {@link String}, para que la firma no dependa del
+     * generador JSON ante texto mal formado.
+     *
+     * @param text Texto a escribir.
+     * @return El mismo texto si está bien formado, o una copia corregida.
+     */
+    private static String wellFormed(String text) {
+        char[] chars = null;
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (!Character.isSurrogate(ch)) {
+                continue;
+            }
+            if (Character.isHighSurrogate(ch) && i + 1 < text.length() && Character.isLowSurrogate(text.charAt(i + 1))) {
+                i++;
+                continue;
+            }
+            if (chars == null) {
+                chars = text.toCharArray();
+            }
+            chars[i] = '?';
+        }
+        return chars == null ? text : new String(chars);
+    }
+
+    /**
+     * Obtiene los nombres de los campos de un objeto JSON ordenados.
+     *
+     * @param node Objeto JSON.
+     * @return Los nombres de sus campos en orden natural.
+     */
+    private static List<String> sortedFieldNames(JsonNode node) {
+        List<String> names = new ArrayList<>(node.size());
+        for (Iterator<String> it = node.fieldNames(); it.hasNext();) {
+            names.add(it.next());
+        }
+        Collections.sort(names);
+        return names;
+    }
+
+    /**
+     * Flujo de salida que entrega cada byte escrito al {@link Mac}.
+     */
+    private static final class MacOutputStream extends OutputStream {
+
+        private final Mac mac;
+
+        MacOutputStream(Mac mac) {
+            this.mac = mac;
+        }
+
+        @Override
+        public void write(int b) {
+            mac.update((byte) b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            mac.update(b, off, len);
+        }
     }
 
     /**
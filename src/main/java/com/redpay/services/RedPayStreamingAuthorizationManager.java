@@ -0,0 +1,84 @@
+package com.redpay.services;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.redpay.interfaces.ReuseCounterStore;
+import com.redpay.models.AuthorizationManagerConfig;
+import com.redpay.models.AuthorizeOrder;
+
+/**
+ * Gestor de autorizaciones que obtiene las órdenes pendientes como un flujo.
+ * <p>
+ * Las subclases implementan {@link #streamPendingAuthorizeOrders(int)} en
+ * lugar de {@link #pendingAuthorizeOrders()}, de modo que un backlog grande
+ * puede leerse con un cursor de base de datos sin cargarlo completo en
+ * memoria.
+ * </p>
+ */
+public abstract class RedPayStreamingAuthorizationManager extends RedPayAuthorizationManager {
+
+    public RedPayStreamingAuthorizationManager() {
+        super();
+    }
+
+    /**
+     * Constructor que permite ajustar el procesamiento de autorizaciones.
+     *
+     * @param managerConfig Configuración del procesamiento de autorizaciones.
+     * Si es nula, se utilizan los valores por defecto.
+     */
+    public RedPayStreamingAuthorizationManager(AuthorizationManagerConfig managerConfig) {
+        super(managerConfig);
+    }
+
+    /**
+     * Constructor que permite ajustar el procesamiento de autorizaciones y
+     * controlar la reutilización de las órdenes con un almacenamiento de
+     * contadores.
+     *
+     * @param managerConfig Configuración del procesamiento de autorizaciones.
+     * Si es nula, se utilizan los valores por defecto.
+     * @param reuseCounterStore Almacenamiento de los contadores de
+     * reutilización. Si es nulo, se utiliza
+     * {@link #countAuthorizationByOrder(String)}.
+     */
+    public RedPayStreamingAuthorizationManager(AuthorizationManagerConfig managerConfig,
+            ReuseCounterStore reuseCounterStore) {
+        super(managerConfig, reuseCounterStore);
+    }
+
+    /**
+     * Recupera las órdenes de autorización pendientes como un flujo que se
+     * consume de forma incremental.
+     * <p>
+     * El gestor consume el flujo en tramos de {@code batchSizeHint} órdenes y
+     * solo avanza al siguiente tramo cuando terminó de procesar el anterior.
+     * El flujo se cierra al terminar cada ciclo, por lo que puede liberar el
+     * cursor en {@link Stream#onClose}.
+     * </p>
+     *
+     * @param batchSizeHint Número de órdenes que el gestor procesa por tramo
+     * (tamaño sugerido para las lecturas de la fuente).
+     * @return Un flujo de órdenes de autorización pendientes.
+     * @throws Exception Si falla la recuperación.
+     */
+    @Override
+    public abstract Stream<AuthorizeOrder> streamPendingAuthorizeOrders(int batchSizeHint) throws Exception;
+
+    /**
+     * Recupera todas las órdenes de autorización pendientes en una lista,
+     * consumiendo y cerrando el flujo de
+     * {@link #streamPendingAuthorizeOrders(int)}.
+     *
+     * @return Una lista de órdenes de autorización pendientes.
+     * @throws Exception Si falla la recuperación.
+     */
+    @Override
+    public final List<AuthorizeOrder> pendingAuthorizeOrders() throws Exception {
+        try (Stream<AuthorizeOrder> orders = streamPendingAuthorizeOrders(pollBatchSize())) {
+            return orders.collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package com.redpay.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.redpay.config.ByteArrayPool;
+import com.redpay.config.RedPayExecutors;
+import com.redpay.exceptions.InvalidSignatureError;
+import com.redpay.exceptions.OrderIsRevokedError;
+import com.redpay.exceptions.OrderReuseLimitError;
+import com.redpay.exceptions.WebhookInProgressError;
+import com.redpay.exceptions.WebhookQueueFullError;
+import com.redpay.models.WebhookReceiverConfig;
+import com.redpay.provider.RedPayConfigProvider;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Receptor HTTP embebido de webhooks de pre-autorización.
+ * <p>
+ * Levanta un servidor HTTP del JDK ({@code com.sun.net.httpserver}) que recibe
+ * los webhooks en la ruta configurada, lee el cuerpo en arreglos reutilizables
+ * y lo entrega a un {@link RedPayAuthorizationManager}, que valida la firma
+ * sobre el cuerpo recibido. Las solicitudes se atienden con el tipo de hilos
+ * indicado en la configuración de RedPay: hilos virtuales en modo VIRTUAL, o
+ * un pool fijo de {@link WebhookReceiverConfig#getWorker_threads()} hilos en
+ * caso contrario.
+ * </p>
+ * <p>
+ * Respuestas:
+ * - 200: Webhook aceptado (encolado o procesado). <br>
+ * - 400: El cuerpo no es un JSON válido. <br>
+ * - 401: Firma inválida. <br>
+ * - 405: Método distinto de POST. <br>
+ * - 409: La orden está revocada o superó su límite de reutilización. <br>
+ * - 413: El cuerpo supera el tamaño máximo. <br>
+ * - 503: Cola de webhooks llena o reenvío de un webhook aún en proceso;
+ * RedPay debe reintentar. <br>
+ * - 500: Cualquier otro error. <br>
+ * </p>
+ */
+public class RedPayWebhookReceiver implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RedPayWebhookReceiver.class);
+
+    /**
+     * Número máximo de arreglos libres conservados para leer cuerpos.
+     */
+    private static final int MAX_POOLED_BUFFERS = 64;
+
+    private final RedPayAuthorizationManager manager;
+
+    private final WebhookReceiverConfig receiverConfig;
+
+    private final ByteArrayPool buffers;
+
+    private HttpServer server;
+
+    private ExecutorService executor;
+
+    private volatile long startedAt;
+
+    private final LongAdder accepted = new LongAdder();
+
+    private final LongAdder rejected = new LongAdder();
+
+    private final LongAdder totalLatencyNanos = new LongAdder();
+
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+    /**
+     * Crea el receptor. El servidor no se inicia hasta invocar
+     * {@link #start()}.
+     *
+     * @param manager Gestor que procesa los webhooks recibidos.
+     * @param receiverConfig Configuración del receptor. Si es nula, se
+     * utilizan los valores por defecto.
+     */
+    public RedPayWebhookReceiver(RedPayAuthorizationManager manager, WebhookReceiverConfig receiverConfig) {
+        this.manager = manager;
+        this.receiverConfig = receiverConfig != null ? receiverConfig : new WebhookReceiverConfig();
+        this.buffers = new ByteArrayPool(Math.max(1, this.receiverConfig.getMax_body_bytes()), MAX_POOLED_BUFFERS);
+    }
+
+    /**
+     * Inicia el servidor HTTP.
+     *
+     * @throws IOException Si no se puede abrir el puerto.
+     * @throws IllegalStateException Si el receptor ya está iniciado.
+     */
+    public synchronized void start() throws IOException {
+        if (server != null) {
+            throw new IllegalStateException("El receptor de webhooks ya está iniciado.");
+        }
+        HttpServer httpServer = HttpServer.create(
+                new InetSocketAddress(receiverConfig.getHost(), receiverConfig.getPort()), receiverConfig.getBacklog());
+        executor = RedPayExecutors.newServerExecutor("RedPayWebhookReceiver",
+                RedPayConfigProvider.getInstance().getConfig().getExecution_mode(), receiverConfig.getWorker_threads());
+        httpServer.setExecutor(executor);
+        httpServer.createContext(receiverConfig.getPath(), this::handle);
+        httpServer.start();
+        server = httpServer;
+        startedAt = System.nanoTime();
+        LOGGER.info("Receptor de webhooks escuchando en {}{}", httpServer.getAddress(), receiverConfig.getPath());
+    }
+
+    /**
+     * Detiene el servidor HTTP, esperando hasta un segundo a que terminen las
+     * solicitudes en curso.
+     */
+    public synchronized void stop() {
+        if (server == null) {
+            return;
+        }
+        server.stop(1);
+        executor.shutdown();
+        server = null;
+        executor = null;
+    }
+
+    @Override
+    public void close() {
+        stop();
+    }
+
+    /**
+     * Obtiene el puerto en el que escucha el receptor, útil si se configuró el
+     * puerto 0.
+     *
+     * @return El puerto, o -1 si el receptor no está iniciado.
+     */
+    public synchronized int getPort() {
+        return server != null ? server.getAddress().getPort() : -1;
+    }
+
+    /**
+     * Obtiene el número de webhooks aceptados (respondidos con HTTP 200).
+     *
+     * @return El número de webhooks aceptados.
+     */
+    public long getAcceptedCount() {
+        return accepted.sum();
+    }
+
+    /**
+     * Obtiene el número de solicitudes rechazadas (respondidas con un código
+     * distinto de 200).
+     *
+     * @return El número de solicitudes rechazadas.
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * Obtiene la proporción de solicitudes aceptadas.
+     *
+     * @return La tasa de aceptación, entre 0 y 1.
+     */
+    public double getAcceptRate() {
+        long acceptedCount = accepted.sum();
+        long total = acceptedCount + rejected.sum();
+        return total == 0 ? 0.0 : (double) acceptedCount / total;
+    }
+
+    /**
+     * Obtiene el número promedio de webhooks aceptados por segundo desde el
+     * inicio del receptor.
+     *
+     * @return Los webhooks aceptados por segundo.
+     */
+    public double getAcceptedPerSecond() {
+        long elapsedNanos = System.nanoTime() - startedAt;
+        return startedAt == 0 || elapsedNanos <= 0 ? 0.0 : accepted.sum() * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Obtiene el tiempo promedio de atención de una solicitud.
+     *
+     * @return La latencia promedio, en milisegundos.
+     */
+    public double getAverageLatencyMillis() {
+        long total = accepted.sum() + rejected.sum();
+        return total == 0 ? 0.0 : totalLatencyNanos.sum() / 1e6 / total;
+    }
+
+    /**
+     * Obtiene el mayor tiempo de atención de una solicitud.
+     *
+     * @return La latencia máxima, en milisegundos.
+     */
+    public double getMaxLatencyMillis() {
+        return maxLatencyNanos.get() / 1e6;
+    }
+
+    /**
+     * Atiende una solicitud HTTP.
+     *
+     * @param exchange La solicitud.
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        long started = System.nanoTime();
+        int status;
+        try {
+            status = dispatch(exchange);
+        } catch (IOException e) {
+            LOGGER.debug("Error al leer el cuerpo del webhook", e);
+            status = 400;
+        }
+        try {
+            exchange.sendResponseHeaders(status, -1);
+        } finally {
+            exchange.close();
+            record(status, System.nanoTime() - started);
+        }
+    }
+
+    /**
+     * Lee el cuerpo de la solicitud y lo entrega al gestor.
+     *
+     * @param exchange La solicitud.
+     * @return El código de estado HTTP de la respuesta.
+     * @throws IOException Si falla la lectura del cuerpo.
+     */
+    private int dispatch(HttpExchange exchange) throws IOException {
+        if (!"POST".equalsIgnoreCase(exchange.getRequestMethod())) {
+            return 405;
+        }
+        String contentLength = exchange.getRequestHeaders().getFirst("Content-Length");
+        if (contentLength != null && parseLength(contentLength) > buffers.getBufferSize()) {
+            return 413;
+        }
+
+        byte[] buffer = buffers.acquire();
+        try {
+            int length = readBody(exchange.getRequestBody(), buffer);
+            if (length < 0) {
+                return 413;
+            }
+            manager.dispatchWebhookBody(buffer, length, receiverConfig.isAsync_dispatch());
+            return 200;
+        } catch (InvalidSignatureError e) {
+            return 401;
+        } catch (WebhookQueueFullError | WebhookInProgressError e) {
+            return 503;
+        } catch (OrderIsRevokedError | OrderReuseLimitError e) {
+            return 409;
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            LOGGER.error("Error al procesar el webhook recibido", e);
+            return 500;
+        } finally {
+            buffers.release(buffer);
+        }
+    }
+
+    /**
+     * Lee el cuerpo completo en el arreglo.
+     *
+     * @param body Flujo del cuerpo de la solicitud.
+     * @param buffer Arreglo de destino.
+     * @return La longitud del cuerpo, o -1 si no cabe en el arreglo.
+     * @throws IOException Si falla la lectura.
+     */
+    private static int readBody(InputStream body, byte[] buffer) throws IOException {
+        int length = 0;
+        while (length < buffer.length) {
+            int read = body.read(buffer, length, buffer.length - length);
+            if (read < 0) {
+                return length;
+            }
+            length += read;
+        }
+        return body.read() < 0 ? length : -1;
+    }
+
+    private static long parseLength(String contentLength) {
+        try {
+            return Long.parseLong(contentLength.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private void record(int status, long latencyNanos) {
+        if (status == 200) {
+            accepted.increment();
+        } else {
+            rejected.increment();
+        }
+        totalLatencyNanos.add(latencyNanos);
+        maxLatencyNanos.accumulateAndGet(latencyNanos, Math::max);
+    }
+}
@@ -3,6 +3,7 @@ package com.redpay.services.internal;
 import com.redpay.interfaces.RoleActionsEP;
 import com.redpay.interfaces.RoleActionsER;
 import com.redpay.models.RedPayBase;
+import com.redpay.models.RedPayClient;
 import com.redpay.models.TokenBase;
 import com.redpay.requests.AuthorizeRequest;
 import com.redpay.requests.ChargebackRequest;
@@ -28,9 +29,24 @@ public class RedPayDualService extends RedPayBase implements RoleActionsER, Role
      * Constructor por defecto que inicializa los servicios internos.
      */
     public RedPayDualService() {
-        super();
-        this.erService = new RedPayERService();
-        this.epService = new RedPayEPService();
+        this(null);
+    }
+
+    /**
+     * Constructor que permite especificar el {@link RedPayClient} a utilizar.
+     * <p>
+     * Los servicios internos ER y EP comparten el mismo cliente que este
+     * servicio, por lo que un enrolador dual utiliza un único contexto TLS y
+     * pool de conexiones.
+     * </p>
+     *
+     * @param client Instancia de {@link RedPayClient} a utilizar. Si es nulo,
+     * se utiliza la instancia compartida de la configuración global.
+     */
+    public RedPayDualService(RedPayClient client) {
+        super(client);
+        this.erService = new RedPayERService(this.client);
+        this.epService = new RedPayEPService(this.client);
     }
 
     /**
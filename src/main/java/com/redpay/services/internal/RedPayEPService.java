@@ -1,15 +1,12 @@
 package com.redpay.services.internal;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.redpay.enums.PathUrl;
 import com.redpay.interfaces.RoleActionsEP;
 import com.redpay.models.RedPayBase;
+import com.redpay.models.RedPayClient;
 import com.redpay.requests.AuthorizeRequest;
 import com.redpay.responses.AuthorizeResponse;
 
-import java.util.Map;
-
 /**
  * Servicio de rol EP de RedPay que implementa la interfaz
  * {@link RoleActionsEP}.
@@ -21,7 +18,22 @@ import java.util.Map;
  */
 public class RedPayEPService extends RedPayBase implements RoleActionsEP {
 
-    private static final ObjectMapper objectMapper = new ObjectMapper();
+    /**
+     * Constructor por defecto que utiliza el cliente compartido de la
+     * configuración global.
+     */
+    public RedPayEPService() {
+        super();
+    }
+
+    /**
+     * Constructor que permite especificar el {@link RedPayClient} a utilizar.
+     *
+     * @param client Instancia de {@link RedPayClient} a utilizar.
+     */
+    public RedPayEPService(RedPayClient client) {
+        super(client);
+    }
 
     /**
      * Autoriza un token.
@@ -40,13 +52,6 @@ public class RedPayEPService extends RedPayBase implements RoleActionsEP {
      */
     @Override
     public AuthorizeResponse authorizeToken(AuthorizeRequest authorizeRequest) throws Exception {
-        Map<String, Object> body = objectMapper.convertValue(
-                authorizeRequest, new TypeReference<Map<String, Object>>() {
-        }
-        );
-
-        String jsonResponse = client.post(PathUrl.Authorize.getPath(), body);
-
-        return objectMapper.readValue(jsonResponse, AuthorizeResponse.class);
+        return client.post(PathUrl.Authorize.getPath(), authorizeRequest, AuthorizeResponse.class);
     }
 }
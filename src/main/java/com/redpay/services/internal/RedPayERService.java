@@ -1,19 +1,17 @@
 package com.redpay.services.internal;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.redpay.enums.PathUrl;
 import com.redpay.interfaces.RoleActionsER;
 import com.redpay.models.RedPayBase;
+import com.redpay.models.RedPayClient;
 import com.redpay.models.TokenBase;
+import com.redpay.provider.RedPayRevocationNotifier;
 import com.redpay.requests.ChargebackRequest;
 import com.redpay.requests.RevokeTokenRequest;
 import com.redpay.responses.ChargebackResponse;
 import com.redpay.responses.GenerateTokenResponse;
 import com.redpay.responses.RevokeTokenResponse;
 
-import java.util.Map;
-
 /**
  * Servicio de rol ER de RedPay que implementa la interfaz
  * {@link RoleActionsER}.
@@ -24,7 +22,22 @@ import java.util.Map;
  */
 public class RedPayERService extends RedPayBase implements RoleActionsER {
 
-    private static final ObjectMapper objectMapper = new ObjectMapper();
+    /**
+     * Constructor por defecto que utiliza el cliente compartido de la
+     * configuración global.
+     */
+    public RedPayERService() {
+        super();
+    }
+
+    /**
+     * Constructor que permite especificar el {@link RedPayClient} a utilizar.
+     *
+     * @param client Instancia de {@link RedPayClient} a utilizar.
+     */
+    public RedPayERService(RedPayClient client) {
+        super(client);
+    }
 
     /**
      * Genera un token a partir de la instancia de {@link TokenBase}
@@ -39,18 +52,15 @@ public class RedPayERService extends RedPayBase implements RoleActionsER {
      */
     @Override
     public <T extends TokenBase> GenerateTokenResponse generateToken(T tokenInstance) throws Exception {
-        Map<String, Object> body = objectMapper.convertValue(
-                tokenInstance, new TypeReference<Map<String, Object>>() {
-        }
-        );
-
-        String jsonResponse = client.post(PathUrl.Generate.getPath(), body);
-
-        return objectMapper.readValue(jsonResponse, GenerateTokenResponse.class);
+        return client.post(PathUrl.Generate.getPath(), tokenInstance, GenerateTokenResponse.class);
     }
 
     /**
      * Revoca un token utilizando la solicitud proporcionada.
+     * <p>
+     * Si la revocación es exitosa, se informa a
+     * {@link RedPayRevocationNotifier}.
+     * </p>
      *
      * @param revokeTokenRequest Solicitud que contiene la información para
      * revocar el token.
@@ -60,14 +70,10 @@ public class RedPayERService extends RedPayBase implements RoleActionsER {
      */
     @Override
     public RevokeTokenResponse revokeToken(RevokeTokenRequest revokeTokenRequest) throws Exception {
-        Map<String, Object> body = objectMapper.convertValue(
-                revokeTokenRequest, new TypeReference<Map<String, Object>>() {
-        }
-        );
+        RevokeTokenResponse response = client.post(PathUrl.Revoke.getPath(), revokeTokenRequest, RevokeTokenResponse.class);
 
-        String jsonResponse = client.post(PathUrl.Revoke.getPath(), body);
-
-        return objectMapper.readValue(jsonResponse, RevokeTokenResponse.class);
+        RedPayRevocationNotifier.getInstance().publish(revokeTokenRequest.getToken_uuid(), response.getRevoked_at());
+        return response;
     }
 
     /**
@@ -83,13 +89,6 @@ public class RedPayERService extends RedPayBase implements RoleActionsER {
      */
     @Override
     public ChargebackResponse generateChargeback(ChargebackRequest chargebackRequest) throws Exception {
-        Map<String, Object> body = objectMapper.convertValue(
-                chargebackRequest, new TypeReference<Map<String, Object>>() {
-        }
-        );
-
-        String jsonResponse = client.post(PathUrl.Chargeback.getPath(), body);
-
-        return objectMapper.readValue(jsonResponse, ChargebackResponse.class);
+        return client.post(PathUrl.Chargeback.getPath(), chargebackRequest, ChargebackResponse.class);
     }
 }
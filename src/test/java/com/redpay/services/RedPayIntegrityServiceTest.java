@@ -0,0 +1,175 @@
+package com.redpay.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.redpay.enums.AuthorizationMode;
+import com.redpay.models.AuthorizationAccountWithId;
+import com.redpay.models.AuthorizationData;
+import com.redpay.models.AuthorizeOrder;
+import com.redpay.models.Chargeback;
+import com.redpay.models.Geo;
+import com.redpay.models.Order;
+import com.redpay.models.Settlement;
+import com.redpay.models.SettlementSchedule;
+import com.redpay.models.SignedAuthorizationAccount;
+import com.redpay.models.SignedAuthorizationAccountFactory;
+import com.redpay.models.TokenData;
+import com.redpay.models.UserAccount;
+import com.redpay.models.WebhookPreAuthorization;
+import com.redpay.models.Withdrawal;
+import com.redpay.provider.RedPayConfigProvider;
+import com.redpay.requests.AuthorizeRequest;
+import com.redpay.requests.ChargebackRequest;
+import com.redpay.requests.RevokeTokenRequest;
+import com.redpay.requests.TokenT0Request;
+import com.redpay.requests.TokenT1Request;
+import com.redpay.requests.TokenT2Request;
+import com.redpay.requests.TokenT3Request;
+import com.redpay.requests.TokenT4Request;
+import com.redpay.requests.UserCollectorRequest;
+import com.redpay.requests.UserPayerRequest;
+import com.redpay.requests.ValidateAuthorizationCollectorRequest;
+import com.redpay.requests.ValidateAuthorizationPayerRequest;
+import com.redpay.requests.ValidateTokenRequest;
+import com.redpay.responses.AuthorizeResponse;
+import com.redpay.responses.ChargebackResponse;
+import com.redpay.responses.GenerateTokenResponse;
+import com.redpay.responses.GenerateUserResponse;
+import com.redpay.responses.OperationsAuthorizeResponse;
+import com.redpay.responses.RevokeTokenResponse;
+import com.redpay.responses.SettlementResponse;
+import com.redpay.responses.SubscriptionDataResponse;
+import com.redpay.responses.TokenResponse;
+import com.redpay.responses.UserResponse;
+import com.redpay.responses.ValidateAuthorizationResponse;
+import com.redpay.responses.ValidateTokenDataResponse;
+import com.redpay.responses.ValidateTokenResponse;
+
+/**
+ * Vectores de firma de {@link RedPayIntegrityService}.
+ * <p>
+ * Las firmas esperadas se obtuvieron con la implementación original del
+ * servicio, por lo que cualquier cambio en la representación canónica que
+ * altere una firma hace fallar estas pruebas.
+ * </p>
+ */
+class RedPayIntegrityServiceTest {
+
+    private final RedPayIntegrityService integrityService = new RedPayIntegrityService();
+
+    @BeforeAll
+    static void configure() {
+        SignaturePayloads.configure();
+    }
+
+    static Stream<Arguments> dtoVectors() {
+        return Stream.of(
+                Arguments.of(AuthorizeRequest.class, "626282081ae51d4b35b54a271ce2a1c9cb78f59d37acab945f47353b994df315"),
+                Arguments.of(ChargebackRequest.class, "b6d7706d7e3bab6c4ee034af78cf8394114bf6531876a3a6b74aeb62d509ebaa"),
+                Arguments.of(RevokeTokenRequest.class, "4904b28e719c4548d34d427c0d6d053beddf594be57b05e2fac4a7ea179d452b"),
+                Arguments.of(TokenT0Request.class, "e5c5ba5ef6201091c8a12aaecb36ce8576c14b482598752d298fc440cf23b703"),
+                Arguments.of(TokenT1Request.class, "60090ab15e33e544eb98fea0946df635b538ee10b88bb0d16750fb32b6d12b2f"),
+                Arguments.of(TokenT2Request.class, "c1165430fec7e8f6a540be499df58b71ec93ebefb78653fdef3b764df9ed3057"),
+                Arguments.of(TokenT3Request.class, "4c4588cc8ce5c928fe499f6b90301ce1bd3424d0fc9f030fb9789fb0f901a1eb"),
+                Arguments.of(TokenT4Request.class, "17298121797a2544b012efa7cf2388319a7335b4f721c8ff6498a8f34498c912"),
+                Arguments.of(UserCollectorRequest.class, "076d28985974bfaaa30fce420508d8e7d0de69039eb7a24d4852a77186be780e"),
+                Arguments.of(UserPayerRequest.class, "c6f433e437396e7ad14c1429f767f194ead334a677d4b58ad8f6b50bfb66bd66"),
+                Arguments.of(ValidateAuthorizationCollectorRequest.class, "e38544283ea803c93fcb5e482f1a47f76f3fdc6c2ebe85a3ea58997844bd9e47"),
+                Arguments.of(ValidateAuthorizationPayerRequest.class, "1361ad657e93a7b1cc086f80558bddde50af445c67c76665bd133f81caf803b4"),
+                Arguments.of(ValidateTokenRequest.class, "bc4ca17f5a909efb43e60604ba5641f7e656849c825418b17ca2e1bcdad9ef1c"),
+                Arguments.of(AuthorizeResponse.class, "8b9ae76467ad5d5ac365f77870203b0af0a62ed31f0ebf3ead330c94744b0016"),
+                Arguments.of(ChargebackResponse.class, "25ce424841e35d1b4ae040a49679de8d9af0972a9b7080d654c9b5d62c0da0e3"),
+                Arguments.of(GenerateTokenResponse.class, "1f4e0c39b6dfb3f64ad053220562aa4d8bbf42da6582b6b343f236b9c9b38d72"),
+                Arguments.of(GenerateUserResponse.class, "e0e3e35f3458dac61c3202a0e70eb3fe124e665ede8c64f009af9bb789f56195"),
+                Arguments.of(OperationsAuthorizeResponse.class, "e1e26ca871142c5835db1048b28b382d1c91648d2b7ffa132f8979f961b80d74"),
+                Arguments.of(RevokeTokenResponse.class, "bc8402abc3b5809aa7136a5bc4a43aadb40a0d433267758951fab51809c1b7fc"),
+                Arguments.of(SettlementResponse.class, "25768e021f1a95ed78e5e39be9b00fa008815e4abf68824ba47e357de4b6f3dd"),
+                Arguments.of(SubscriptionDataResponse.class, "ca6affe2b601864286f52286c2606dca9174bae0c958a81c398f1a383441517a"),
+                Arguments.of(TokenResponse.class, "e794a80fe28bac72e16b5f18feb4caf0f8e1246f73bd918d73cd6658df93079d"),
+                Arguments.of(UserResponse.class, "4e4d0a94302d07b3c7f76034638da5727b39bfb94cfcdf561237b6539a647eae"),
+                Arguments.of(ValidateAuthorizationResponse.class, "a31fe09e6522f763e5f4bac81742a3f45dc265699d7a2b8100af9f81d13fde95"),
+                Arguments.of(ValidateTokenDataResponse.class, "bd6fe42c4055c8ae869eceb2b78088fdb7527c83412e987a2366b9d089d20b99"),
+                Arguments.of(ValidateTokenResponse.class, "4a5dc186acaf75ebcd4289000ab89e3e71b25ad2f370882ae1fed8b64fd8e6e8"),
+                Arguments.of(AuthorizationData.class, "d4ea2559bf4bb97ef269a131df932fc845e4edf8fd36785abd73417674153ce8"),
+                Arguments.of(AuthorizeOrder.class, "ed7ce56c5d6054f81d0220767bae3d3fbdc1415db0293066392114428e4503f0"),
+                Arguments.of(Chargeback.class, "22f75455f8bba4c8624aa4d97374552484b9f7c5cc9e1b1f8965fbdd620be270"),
+                Arguments.of(Geo.class, "b4042e4df0baba0bb817bf40ae00af3625ad776092d0504dd61b20a8aca67e89"),
+                Arguments.of(Order.class, "39428649a2b2a4341266e9ec47712374d744ed6ed6b5c3e7305fc2d1f5b6a6c4"),
+                Arguments.of(Settlement.class, "0e6f5b8d481dc75e0a6125ca40d5678ed684cf049ae5486bc1f362dc95ae6132"),
+                Arguments.of(SettlementSchedule.class, "0159c45747131277d114e5805ea7486787033ec5926e9f9f345233ec47cdb436"),
+                Arguments.of(TokenData.class, "2dd7b0258c48ef91a8260dd0ad6fce0af8b5baa92e395ed39e7e87be7a774f03"),
+                Arguments.of(UserAccount.class, "889e89fd652d35b0f6d97dc94a8a788ece9bf68b53fd865e6742e272911f3e6e"),
+                Arguments.of(WebhookPreAuthorization.class, "cde4504a0c70b72a0e3ea12b19fe544e4e2087ba29c30a1550e69a2349cd4c03"),
+                Arguments.of(Withdrawal.class, "ca3b7b46fd9beba0956e09444fa5da1cdcf0e9f0e0bd6fa79d1610032a679fce"),
+                Arguments.of(AuthorizationAccountWithId.class, "07f43fbe45dcc943565e9c9a5786a3bbe46d23bc68a0d66636227eff84fa7d43")
+        );
+    }
+
+    static Stream<Arguments> edgeCaseVectors() {
+        return Stream.of(
+                Arguments.of("floats", "aa9e693cfbf74fdbe45d0e7ae1f8440e6d0c71f2bdf6604fb728c96099b12330"),
+                Arguments.of("doubles", "6b57b17d9af2bbd473cb01141b302938c9eccc32d65f3ca511eee5c987e4a91d"),
+                Arguments.of("decimals", "3ae08869b4710e8abdfbfc2a45cb97c468845a9b85bf5ff93a61188b97a8b584"),
+                Arguments.of("integers", "4325daaa4360cdf2917c01fd151a5ec2a11a5984e1fe69d95cd8b475e3934bcf"),
+                Arguments.of("surrogates", "7e24ad629a89ead38d73999063684e6799488bad37d109e9f7938fdec3d8dd74"),
+                Arguments.of("strings", "d0d942bbf7adfd0226afb86c35d1f1764ee1832b1f287967c397e7e630dbe032"),
+                Arguments.of("structure", "ff6af2a8c9b79851481976b28c1271766ea2cd10145fc9fe343ff8d8ddfe4ce6")
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("dtoVectors")
+    void signsDtoLikeBaseline(Class<?> type, String expected) throws Exception {
+        Object dto = SignaturePayloads.dto(type);
+        Object payload = type == AuthorizeRequest.class || type == ChargebackRequest.class
+                ? SignaturePayloads.frozen(dto)
+                : dto;
+
+        assertEquals(expected, integrityService.generateSignature(payload, "secreto-" + type.getSimpleName()));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("edgeCaseVectors")
+    void signsEdgeCaseLikeBaseline(String name, String expected) {
+        Map<String, Object> payload = SignaturePayloads.edgeCase(name);
+
+        assertEquals(expected, integrityService.generateSignature(payload, "secreto-" + name));
+    }
+
+    @Test
+    void signedObjectKeepsPayloadAndAddsSignature() {
+        Map<String, Object> payload = SignaturePayloads.edgeCase("decimals");
+
+        Map<String, Object> signed = integrityService.getSignedObject(new HashMap<>(payload), "secreto-decimals");
+
+        assertEquals(integrityService.generateSignature(payload, "secreto-decimals"), signed.get("signature"));
+        assertEquals(payload.size() + 1, signed.size());
+    }
+
+    @Test
+    void signedAccountMatchesFullSignature() throws Exception {
+        SignedAuthorizationAccount signed = SignedAuthorizationAccountFactory.getInstance()
+                .create(AuthorizationMode.Authorize);
+
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("id", signed.getId());
+        payload.put("account", new ObjectMapper().convertValue(signed.getAccount(), Map.class));
+        payload.put("timestamp", signed.getTimestamp());
+
+        String secret = RedPayConfigProvider.getInstance().getConfig().getSecrets().getAuthorize();
+        assertFalse(signed.getSignature().isEmpty());
+        assertEquals(integrityService.generateSignature(payload, secret), signed.getSignature());
+    }
+}
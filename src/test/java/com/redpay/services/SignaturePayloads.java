@@ -0,0 +1,268 @@
+package com.redpay.services;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.redpay.enums.AccountAuthorization;
+import com.redpay.enums.Enroller;
+import com.redpay.enums.RedPayEnvironment;
+import com.redpay.enums.SbifCode;
+import com.redpay.models.AccountEnrollerConfig;
+import com.redpay.models.Certificates;
+import com.redpay.models.ConfigurationAccounts;
+import com.redpay.models.RedPayConfig;
+import com.redpay.models.Secrets;
+import com.redpay.provider.RedPayConfigProvider;
+
+/**
+ * Payloads deterministas para los vectores de firma.
+ * <p>
+ * Los DTO se completan por reflexión con valores que dependen solo del nombre
+ * y del tipo de cada campo, de modo que el mismo payload se reconstruye igual
+ * en cada ejecución. Las firmas esperadas se calcularon con la implementación
+ * original de {@link RedPayIntegrityService} (serializar, volver a leer y
+ * concatenar clave y valor de cada campo) sobre estos mismos payloads.
+ * </p>
+ */
+final class SignaturePayloads {
+
+    /**
+     * Marca de tiempo fija para las cuentas firmadas de las solicitudes.
+     */
+    static final long FIXED_TIMESTAMP = 1_700_000_000_000L;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private SignaturePayloads() {
+    }
+
+    /**
+     * Establece la configuración global usada al calcular los vectores. Las
+     * solicitudes de autorización y devolución incluyen las cuentas
+     * configuradas, por lo que sus firmas esperadas dependen de ella.
+     */
+    static synchronized void configure() {
+        RedPayConfigProvider provider = RedPayConfigProvider.getInstance();
+        if (provider.getConfig() != null) {
+            return;
+        }
+        RedPayConfig config = new RedPayConfig();
+        config.setSecrets(new Secrets("int-secret", "auth-secret", "cb-secret", "cba-secret"));
+        config.setEnvironment(RedPayEnvironment.Integration);
+        config.setCertificate(new Certificates("c", "k", false));
+        config.setType(Enroller.COLLECTOR);
+        SbifCode[] banks = SbifCode.values();
+        AccountAuthorization[] types = AccountAuthorization.values();
+        config.setAccounts(new ConfigurationAccounts(
+                new AccountEnrollerConfig("acc-1", 123456, banks[1], types[0]),
+                new AccountEnrollerConfig("acc-2", 654321, banks[2], types[1]),
+                new AccountEnrollerConfig("acc-3", 777, banks[3], types[0])));
+        provider.setConfig(config);
+    }
+
+    /**
+     * Crea un DTO con todos sus campos completos.
+     *
+     * @param type Clase del DTO.
+     * @return El DTO.
+     * @throws Exception Si la clase no puede instanciarse.
+     */
+    static Object dto(Class<?> type) throws Exception {
+        return populate(type, 0);
+    }
+
+    /**
+     * Convierte una solicitud cuyas cuentas firmadas dependen de la hora
+     * actual en un árbol con la marca de tiempo y la firma de las cuentas
+     * fijas.
+     *
+     * @param request La solicitud.
+     * @return El árbol JSON de la solicitud.
+     */
+    static JsonNode frozen(Object request) {
+        JsonNode tree = MAPPER.valueToTree(request);
+        freeze(tree);
+        return tree;
+    }
+
+    /**
+     * Payloads con los casos límite de la representación canónica.
+     *
+     * @param name Nombre del caso.
+     * @return El payload del caso.
+     */
+    static Map<String, Object> edgeCase(String name) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        switch (name) {
+            case "floats" -> {
+                payload.put("a", 0.1f);
+                payload.put("b", 1.1f);
+                payload.put("c", 16777217f);
+                payload.put("d", -3.4028235E38f);
+                payload.put("e", 1.0E-10f);
+            }
+            case "doubles" -> {
+                payload.put("a", 0.1);
+                payload.put("b", 1.0E21);
+                payload.put("c", 1.0E-7);
+                payload.put("d", -0.0);
+                payload.put("e", 100.0);
+                payload.put("f", 123456789.123456789);
+            }
+            case "decimals" -> {
+                payload.put("a", new BigDecimal("10"));
+                payload.put("b", new BigDecimal("10.50"));
+                payload.put("c", new BigDecimal("1E+3"));
+                payload.put("d", new BigDecimal("0.000001"));
+                payload.put("e", new BigDecimal("-2500.000"));
+                payload.put("f", new BigDecimal("12345678901234567890"));
+            }
+            case "integers" -> {
+                payload.put("a", Long.MIN_VALUE);
+                payload.put("b", Long.MAX_VALUE);
+                payload.put("c", new BigInteger("123456789012345678901234567890"));
+                payload.put("d", (short) -7);
+                payload.put("e", (byte) 3);
+                payload.put("f", 0);
+            }
+            case "surrogates" -> {
+                payload.put("lone_high", "a\uD800b");
+                payload.put("lone_low", "\uDC00c");
+                payload.put("pair", "emoji 😀 fin");
+                payload.put("reversed", "\uDE00\uD83D");
+                payload.put("k\uD800", "clave con sustituto");
+                payload.put("nested", Map.of("v", List.of("\uD800", "😀")));
+            }
+            case "strings" -> {
+                payload.put("accents", "ñandú Pérez ü");
+                payload.put("escapes", "comillas \" barra \\ / tab \t salto \n control \u0001");
+                payload.put("empty", "");
+                payload.put("html", "<a href='x'>&amp;</a>");
+            }
+            case "structure" -> {
+                payload.put("signature", "se omite en el primer nivel");
+                payload.put("omitted", null);
+                payload.put("Zeta", 1);
+                payload.put("alfa", 2);
+                payload.put("_under", 3);
+                payload.put("nested", nested());
+                payload.put("list", List.of(1, "dos", true, Map.of("b", 2, "a", 1), List.of()));
+                payload.put("empty_object", Map.of());
+                payload.put("flag", false);
+            }
+            default -> throw new IllegalArgumentException(name);
+        }
+        return payload;
+    }
+
+    private static Map<String, Object> nested() {
+        Map<String, Object> nested = new LinkedHashMap<>();
+        nested.put("signature", "se firma en niveles internos");
+        nested.put("z", null);
+        nested.put("b", List.of(3, 2, 1));
+        nested.put("a", Map.of("y", 1.5, "x", new BigDecimal("2.0")));
+        return nested;
+    }
+
+    private static void freeze(JsonNode node) {
+        if (node.isObject()) {
+            ObjectNode object = (ObjectNode) node;
+            if (object.has("timestamp") && object.has("signature")) {
+                object.put("timestamp", FIXED_TIMESTAMP);
+                object.put("signature", "0".repeat(64));
+            }
+            object.elements().forEachRemaining(SignaturePayloads::freeze);
+        } else if (node.isArray()) {
+            node.elements().forEachRemaining(SignaturePayloads::freeze);
+        }
+    }
+
+    private static Object populate(Class<?> type, int depth) throws Exception {
+        Constructor<?> constructor = type.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        Object instance = constructor.newInstance();
+        for (Class<?> current = type; current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers())) {
+                    continue;
+                }
+                Object value = sample(field.getGenericType(), field.getName(), depth);
+                if (value != null) {
+                    field.setAccessible(true);
+                    field.set(instance, value);
+                }
+            }
+        }
+        return instance;
+    }
+
+    private static Object sample(Type type, String name, int depth) throws Exception {
+        if (type instanceof ParameterizedType parameterized) {
+            Class<?> raw = (Class<?>) parameterized.getRawType();
+            Type[] arguments = parameterized.getActualTypeArguments();
+            if (List.class.isAssignableFrom(raw)) {
+                List<Object> list = new ArrayList<>();
+                list.add(sample(arguments[0], name + "_a", depth + 1));
+                list.add(sample(arguments[0], name + "_bb", depth + 1));
+                return list;
+            }
+            if (Map.class.isAssignableFrom(raw)) {
+                Map<Object, Object> map = new LinkedHashMap<>();
+                map.put("zeta", sample(arguments[1], name + "_z", depth + 1));
+                map.put("alfa", sample(arguments[1], name + "_aa", depth + 1));
+                return map;
+            }
+            return null;
+        }
+        Class<?> raw = (Class<?>) type;
+        int seed = name.length();
+        if (raw == String.class) {
+            return name + " ñandú \"é\" / \\ 😀";
+        }
+        if (raw == int.class || raw == Integer.class) {
+            return 1000 + seed * 7;
+        }
+        if (raw == long.class || raw == Long.class) {
+            return 9_000_000_000L + seed;
+        }
+        if (raw == double.class || raw == Double.class) {
+            return 1234.5 + seed;
+        }
+        if (raw == float.class || raw == Float.class) {
+            return 12.25f + seed;
+        }
+        if (raw == BigDecimal.class) {
+            return new BigDecimal("1500.10");
+        }
+        if (raw == boolean.class || raw == Boolean.class) {
+            return seed % 2 == 0;
+        }
+        if (raw == Date.class) {
+            return new Date(FIXED_TIMESTAMP + seed * 1000L);
+        }
+        if (raw.isEnum()) {
+            Object[] constants = raw.getEnumConstants();
+            return constants[seed % constants.length];
+        }
+        if (raw == Object.class) {
+            return name;
+        }
+        if (raw.getName().startsWith("com.redpay.") && depth < 3 && !Modifier.isAbstract(raw.getModifiers())) {
+            return populate(raw, depth + 1);
+        }
+        return null;
+    }
+}